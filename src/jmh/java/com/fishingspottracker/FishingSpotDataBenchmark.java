@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link FishingSpotData#findSpot(int)} against the boxed map lookup it replaced,
+ * for both fishing spot IDs (hits) and ordinary NPC IDs (misses).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FishingSpotDataBenchmark
+{
+	private static final int BATCH = 1024;
+
+	private Map<Integer, FishingSpotData> boxedMap;
+	private int[] hitIds;
+	private int[] missIds;
+
+	@Setup
+	public void setUp()
+	{
+		ImmutableMap.Builder<Integer, FishingSpotData> builder = new ImmutableMap.Builder<>();
+		int total = 0;
+		for (FishingSpotData spot : FishingSpotData.values())
+		{
+			for (int id : spot.getNpcIds())
+			{
+				builder.put(id, spot);
+				total++;
+			}
+		}
+		boxedMap = builder.build();
+
+		int[] allIds = new int[total];
+		int i = 0;
+		for (FishingSpotData spot : FishingSpotData.values())
+		{
+			for (int id : spot.getNpcIds())
+			{
+				allIds[i++] = id;
+			}
+		}
+
+		Random random = new Random(42);
+		hitIds = new int[BATCH];
+		missIds = new int[BATCH];
+		for (int j = 0; j < BATCH; j++)
+		{
+			hitIds[j] = allIds[random.nextInt(allIds.length)];
+
+			// NPC IDs up to 40000, about a fifth of them beyond the highest fishing spot ID
+			int id;
+			do
+			{
+				id = random.nextInt(40000);
+			}
+			while (FishingSpotData.findSpot(id) != null);
+			missIds[j] = id;
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void arrayHit(Blackhole bh)
+	{
+		for (int id : hitIds)
+		{
+			bh.consume(FishingSpotData.findSpot(id));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void arrayMiss(Blackhole bh)
+	{
+		for (int id : missIds)
+		{
+			bh.consume(FishingSpotData.findSpot(id));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void boxedMapHit(Blackhole bh)
+	{
+		for (int id : hitIds)
+		{
+			bh.consume(boxedMap.get(id));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void boxedMapMiss(Blackhole bh)
+	{
+		for (int id : missIds)
+		{
+			bh.consume(boxedMap.get(id));
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import com.fishingspottracker.BenchmarkStubs.StubNpc;
+import com.fishingspottracker.BenchmarkStubs.StubWorld;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.NPC;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-tick and per-event cost of the tracker against stub client state.
+ *
+ * The tick count is held constant during measurement so every invocation does the same
+ * amount of work: nothing moves, nothing resets, and no cached entry expires.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FishingSpotTrackerBenchmark
+{
+	private static final GameTick GAME_TICK = new GameTick();
+	private static final int START_TICK = 1000;
+
+	private static final MethodHandle UPDATE_NEWEST_SPOT;
+
+	static
+	{
+		try
+		{
+			UPDATE_NEWEST_SPOT = MethodHandles.privateLookupIn(FishingSpotTrackerPlugin.class, MethodHandles.lookup())
+				.findVirtual(FishingSpotTrackerPlugin.class, "updateNewestSpot", java.lang.invoke.MethodType.methodType(void.class));
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	@Param({"10", "50", "200"})
+	private int spotCount;
+
+	@Param({"0", "1000", "10000"})
+	private int cacheSize;
+
+	private StubWorld world;
+	private FishingSpotTrackerPlugin plugin;
+	private List<NPC> spots;
+	private int nextSpot;
+
+	private final Set<String> noIgnoredFish = Collections.emptySet();
+	private final Set<String> someIgnoredFish = Set.of("swordfish", "shark", "salmon");
+
+	@Setup
+	public void setUp()
+	{
+		world = new StubWorld();
+		world.tickCount = START_TICK;
+		plugin = BenchmarkStubs.plugin(world, BenchmarkStubs.defaultConfig());
+
+		// Fill the location cache by spawning and despawning spots on distinct tiles
+		int[] spotIds = FishingSpotData.SHRIMP.getNpcIds();
+		for (int i = 0; i < cacheSize; i++)
+		{
+			StubNpc gone = new StubNpc(30000 + i, spotIds[i % spotIds.length],
+				new WorldPoint(1000 + i % 500, 5000 + i / 500, 0));
+			plugin.onNpcSpawned(new NpcSpawned(gone.npc));
+			plugin.onNpcDespawned(new NpcDespawned(gone.npc));
+		}
+
+		// Tracked spots, spread across the spot types (including some static ones)
+		FishingSpotData[] types = FishingSpotData.values();
+		spots = new ArrayList<>(spotCount);
+		for (int i = 0; i < spotCount; i++)
+		{
+			FishingSpotData type = types[i % types.length];
+			StubNpc stub = new StubNpc(i, type.getNpcIds()[0], new WorldPoint(3000 + i, 3000, 0));
+			world.npcs.add(stub.npc);
+			spots.add(stub.npc);
+
+			// Stagger spawn ticks so newest-spot selection has real work to do
+			world.tickCount = START_TICK - (i % 200);
+			plugin.onNpcSpawned(new NpcSpawned(stub.npc));
+		}
+		world.tickCount = START_TICK;
+	}
+
+	@Benchmark
+	public void onGameTick()
+	{
+		plugin.onGameTick(GAME_TICK);
+	}
+
+	@Benchmark
+	public void npcDespawnAndRespawn()
+	{
+		NPC npc = spots.get(nextSpot);
+		nextSpot = (nextSpot + 1) % spots.size();
+		plugin.onNpcDespawned(new NpcDespawned(npc));
+		plugin.onNpcSpawned(new NpcSpawned(npc));
+	}
+
+	@Benchmark
+	public void updateNewestSpot() throws Throwable
+	{
+		UPDATE_NEWEST_SPOT.invokeExact(plugin);
+	}
+
+	@Benchmark
+	public void getSpotProgress(Blackhole bh)
+	{
+		for (int i = 0; i < spots.size(); i++)
+		{
+			bh.consume(plugin.getSpotProgress(spots.get(i)));
+		}
+	}
+
+	@Benchmark
+	public void getDisplayFish(Blackhole bh)
+	{
+		for (FishingSpotData spot : FishingSpotData.values())
+		{
+			bh.consume(spot.getDisplayFish(noIgnoredFish));
+			bh.consume(spot.getDisplayFish(someIgnoredFish));
+		}
+	}
+}
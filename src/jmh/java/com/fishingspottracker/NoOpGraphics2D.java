@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.util.Map;
+
+/**
+ * A {@link Graphics2D} that draws nothing and allocates nothing, so measurements of an
+ * overlay's render method only see the overlay's own work.
+ */
+class NoOpGraphics2D extends Graphics2D
+{
+	private Color color = Color.WHITE;
+	private Font font = new Font(Font.DIALOG, Font.PLAIN, 12);
+	private Stroke stroke = new BasicStroke();
+
+	@Override
+	public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2, Color bgcolor, ImageObserver observer)
+	{
+		return true;
+	}
+
+	@Override
+	public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2, ImageObserver observer)
+	{
+		return true;
+	}
+
+	@Override
+	public boolean drawImage(Image img, int x, int y, int width, int height, Color bgcolor, ImageObserver observer)
+	{
+		return true;
+	}
+
+	@Override
+	public boolean drawImage(Image img, int x, int y, int width, int height, ImageObserver observer)
+	{
+		return true;
+	}
+
+	@Override
+	public boolean drawImage(Image img, int x, int y, Color bgcolor, ImageObserver observer)
+	{
+		return true;
+	}
+
+	@Override
+	public boolean drawImage(Image img, int x, int y, ImageObserver observer)
+	{
+		return true;
+	}
+
+	@Override
+	public boolean drawImage(Image img, AffineTransform xform, ImageObserver obs)
+	{
+		return true;
+	}
+
+	@Override
+	public void drawImage(BufferedImage img, BufferedImageOp op, int x, int y)
+	{
+	}
+
+	@Override
+	public void drawRenderedImage(RenderedImage img, AffineTransform xform)
+	{
+	}
+
+	@Override
+	public void drawRenderableImage(RenderableImage img, AffineTransform xform)
+	{
+	}
+
+	@Override
+	public void drawString(String str, int x, int y)
+	{
+	}
+
+	@Override
+	public void drawString(String str, float x, float y)
+	{
+	}
+
+	@Override
+	public void drawString(AttributedCharacterIterator iterator, int x, int y)
+	{
+	}
+
+	@Override
+	public void drawString(AttributedCharacterIterator iterator, float x, float y)
+	{
+	}
+
+	@Override
+	public void drawGlyphVector(GlyphVector g, float x, float y)
+	{
+	}
+
+	@Override
+	public void draw(Shape s)
+	{
+	}
+
+	@Override
+	public void fill(Shape s)
+	{
+	}
+
+	@Override
+	public boolean hit(Rectangle rect, Shape s, boolean onStroke)
+	{
+		return true;
+	}
+
+	@Override
+	public GraphicsConfiguration getDeviceConfiguration()
+	{
+		return null;
+	}
+
+	@Override
+	public void setComposite(Composite comp)
+	{
+	}
+
+	@Override
+	public void setPaint(Paint paint)
+	{
+	}
+
+	@Override
+	public void setStroke(Stroke s)
+	{
+		stroke = s;
+	}
+
+	@Override
+	public void setRenderingHint(RenderingHints.Key hintKey, Object hintValue)
+	{
+	}
+
+	@Override
+	public Object getRenderingHint(RenderingHints.Key hintKey)
+	{
+		return null;
+	}
+
+	@Override
+	public void setRenderingHints(Map<?, ?> hints)
+	{
+	}
+
+	@Override
+	public void addRenderingHints(Map<?, ?> hints)
+	{
+	}
+
+	@Override
+	public RenderingHints getRenderingHints()
+	{
+		return new RenderingHints(null);
+	}
+
+	@Override
+	public void translate(int x, int y)
+	{
+	}
+
+	@Override
+	public void translate(double tx, double ty)
+	{
+	}
+
+	@Override
+	public void rotate(double theta)
+	{
+	}
+
+	@Override
+	public void rotate(double theta, double x, double y)
+	{
+	}
+
+	@Override
+	public void scale(double sx, double sy)
+	{
+	}
+
+	@Override
+	public void shear(double shx, double shy)
+	{
+	}
+
+	@Override
+	public void transform(AffineTransform tx)
+	{
+	}
+
+	@Override
+	public void setTransform(AffineTransform tx)
+	{
+	}
+
+	@Override
+	public AffineTransform getTransform()
+	{
+		return new AffineTransform();
+	}
+
+	@Override
+	public Paint getPaint()
+	{
+		return color;
+	}
+
+	@Override
+	public Composite getComposite()
+	{
+		return AlphaComposite.SrcOver;
+	}
+
+	@Override
+	public void setBackground(Color color)
+	{
+	}
+
+	@Override
+	public Color getBackground()
+	{
+		return Color.BLACK;
+	}
+
+	@Override
+	public Stroke getStroke()
+	{
+		return stroke;
+	}
+
+	@Override
+	public void clip(Shape s)
+	{
+	}
+
+	@Override
+	public FontRenderContext getFontRenderContext()
+	{
+		return new FontRenderContext(null, false, false);
+	}
+
+	@Override
+	public Graphics create()
+	{
+		return this;
+	}
+
+	@Override
+	public Color getColor()
+	{
+		return color;
+	}
+
+	@Override
+	public void setColor(Color c)
+	{
+		color = c;
+	}
+
+	@Override
+	public void setPaintMode()
+	{
+	}
+
+	@Override
+	public void setXORMode(Color c1)
+	{
+	}
+
+	@Override
+	public Font getFont()
+	{
+		return font;
+	}
+
+	@Override
+	public void setFont(Font font)
+	{
+		this.font = font;
+	}
+
+	@Override
+	public FontMetrics getFontMetrics(Font f)
+	{
+		return null;
+	}
+
+	@Override
+	public Rectangle getClipBounds()
+	{
+		return null;
+	}
+
+	@Override
+	public void clipRect(int x, int y, int width, int height)
+	{
+	}
+
+	@Override
+	public void setClip(int x, int y, int width, int height)
+	{
+	}
+
+	@Override
+	public Shape getClip()
+	{
+		return null;
+	}
+
+	@Override
+	public void setClip(Shape clip)
+	{
+	}
+
+	@Override
+	public void copyArea(int x, int y, int width, int height, int dx, int dy)
+	{
+	}
+
+	@Override
+	public void drawLine(int x1, int y1, int x2, int y2)
+	{
+	}
+
+	@Override
+	public void fillRect(int x, int y, int width, int height)
+	{
+	}
+
+	@Override
+	public void clearRect(int x, int y, int width, int height)
+	{
+	}
+
+	@Override
+	public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight)
+	{
+	}
+
+	@Override
+	public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight)
+	{
+	}
+
+	@Override
+	public void drawOval(int x, int y, int width, int height)
+	{
+	}
+
+	@Override
+	public void fillOval(int x, int y, int width, int height)
+	{
+	}
+
+	@Override
+	public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle)
+	{
+	}
+
+	@Override
+	public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle)
+	{
+	}
+
+	@Override
+	public void drawPolyline(int[] xPoints, int[] yPoints, int nPoints)
+	{
+	}
+
+	@Override
+	public void drawPolygon(int[] xPoints, int[] yPoints, int nPoints)
+	{
+	}
+
+	@Override
+	public void fillPolygon(int[] xPoints, int[] yPoints, int nPoints)
+	{
+	}
+
+	@Override
+	public void dispose()
+	{
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import com.fishingspottracker.BenchmarkStubs.StubNpc;
+import com.fishingspottracker.BenchmarkStubs.StubWorld;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.NpcSpawned;
+
+/**
+ * Fails if either overlay allocates more than {@link #FRAME_BUDGET_BYTES} in any single frame
+ * in steady state.
+ *
+ * Renders both overlays against stub NPCs and a {@link NoOpGraphics2D}, advancing a game tick
+ * every {@link #FRAMES_PER_TICK} frames, and measures bytes allocated on this thread around
+ * each frame's render calls. Runs once with text only and once with fish icons loaded into
+ * the atlas. The stub NPC proxies allocate only an argument array for calls that take
+ * arguments; those arrays are counted, sized and subtracted, since a real client does not pay
+ * them. So is whatever reading the allocation counter itself allocates.
+ *
+ * Run with {@code ./gradlew checkRenderAllocations}.
+ */
+public class RenderAllocationCheck
+{
+	private static final int FRAME_BUDGET_BYTES = 256;
+	private static final int SPOT_COUNT = 60;
+	private static final int FRAMES_PER_TICK = 30;
+	private static final int WARMUP_TICKS = 1200;
+	private static final int MEASURED_TICKS = 200;
+
+	/**
+	 * Keeps calibration calls from being optimized away.
+	 */
+	private static Object[] argsSink;
+
+	private final com.sun.management.ThreadMXBean threadBean =
+		(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	private final long threadId = Thread.currentThread().getId();
+	private final long probeBytes = calibrateProbeBytes();
+	private final long[] arrayBytes = calibrateArgumentArrayBytes();
+
+	public static void main(String[] args)
+	{
+		RenderAllocationCheck check = new RenderAllocationCheck();
+		check.run("text", Map.of(
+			"showSpotName", true,
+			"showStaticSpots", true,
+			"showMinimapDots", true), false);
+		check.run("icons", Map.of(
+			"showSpotName", true,
+			"showStaticSpots", true,
+			"showMinimapDots", true,
+			"showFishIcon", true), true);
+	}
+
+	private void run(String name, Map<String, Object> overrides, boolean loadIcons)
+	{
+		StubWorld world = new StubWorld();
+		FishingSpotTrackerPlugin plugin = BenchmarkStubs.plugin(world, BenchmarkStubs.config(overrides));
+		if (loadIcons)
+		{
+			// Loaded up front, so spawns never ask the (absent) item manager for them
+			loadIcons(plugin.getIconAtlas());
+		}
+		FishingSpotTrackerOverlay overlay = new FishingSpotTrackerOverlay(plugin);
+		FishingSpotMinimapOverlay minimapOverlay = new FishingSpotMinimapOverlay(plugin);
+		NoOpGraphics2D graphics = new NoOpGraphics2D();
+
+		FishingSpotData[] types = FishingSpotData.values();
+		for (int i = 0; i < SPOT_COUNT; i++)
+		{
+			FishingSpotData type = types[i % types.length];
+			// Every fifth spot shares a tile with its neighbour to exercise deduplication
+			StubNpc stub = new StubNpc(i, type.getNpcIds()[0], new WorldPoint(3000 + i - (i % 5 == 4 ? 1 : 0), 3000, 0));
+			world.npcs.add(stub.npc);
+			world.tickCount = i * 7;
+			plugin.onNpcSpawned(new NpcSpawned(stub.npc));
+		}
+
+		GameTick tick = new GameTick();
+		long[] callsBefore = new long[StubNpc.MAX_ARGUMENTS + 1];
+		long measuredBytes = 0;
+		long measuredFrames = 0;
+		long stubArrays = 0;
+		long stubBytes = 0;
+		long worstFrameBytes = Long.MIN_VALUE;
+		for (int t = 0; t < WARMUP_TICKS + MEASURED_TICKS; t++)
+		{
+			world.tickCount++;
+			plugin.onGameTick(tick);
+
+			for (int f = 0; f < FRAMES_PER_TICK; f++)
+			{
+				System.arraycopy(StubNpc.callsByArgumentCount, 0, callsBefore, 0, callsBefore.length);
+				long before = threadBean.getThreadAllocatedBytes(threadId);
+				overlay.render(graphics);
+				minimapOverlay.render(graphics);
+				long allocated = threadBean.getThreadAllocatedBytes(threadId) - before - probeBytes;
+
+				if (t >= WARMUP_TICKS)
+				{
+					long frameStubBytes = 0;
+					for (int n = 1; n <= StubNpc.MAX_ARGUMENTS; n++)
+					{
+						long calls = StubNpc.callsByArgumentCount[n] - callsBefore[n];
+						stubArrays += calls;
+						frameStubBytes += calls * arrayBytes[n];
+					}
+					long net = allocated - frameStubBytes;
+					measuredBytes += net;
+					measuredFrames++;
+					stubBytes += frameStubBytes;
+					worstFrameBytes = Math.max(worstFrameBytes, net);
+				}
+			}
+		}
+
+		System.out.printf("Render allocation (%s): %.1f B/frame average, %d B worst frame "
+				+ "(%d spots, %d frames, %d stub argument arrays totalling %d B excluded)%n",
+			name, (double) measuredBytes / measuredFrames, worstFrameBytes, SPOT_COUNT, measuredFrames,
+			stubArrays, stubBytes);
+
+		if (worstFrameBytes > FRAME_BUDGET_BYTES)
+		{
+			throw new IllegalStateException(String.format(
+				"Render path (%s) allocated %d B in one frame, over the %d B budget",
+				name, worstFrameBytes, FRAME_BUDGET_BYTES));
+		}
+	}
+
+	/**
+	 * Fills the atlas with a solid stand-in icon for every fish.
+	 */
+	private static void loadIcons(FishIconAtlas atlas)
+	{
+		BufferedImage icon = new BufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 4; y < 28; y++)
+		{
+			for (int x = 6; x < 30; x++)
+			{
+				icon.setRGB(x, y, 0xff3070c0);
+			}
+		}
+
+		for (FishingSpotData type : FishingSpotData.values())
+		{
+			for (FishingSpotData.Fish fish : type.getFish())
+			{
+				atlas.put(fish, icon);
+			}
+		}
+	}
+
+	private long calibrateProbeBytes()
+	{
+		long min = Long.MAX_VALUE;
+		for (int i = 0; i < 10_000; i++)
+		{
+			long before = threadBean.getThreadAllocatedBytes(threadId);
+			min = Math.min(min, threadBean.getThreadAllocatedBytes(threadId) - before);
+		}
+		return min;
+	}
+
+	/**
+	 * Measures the size of the argument array the stub proxy builds for a call with each
+	 * argument count. Arrays are published to a static field so escape analysis cannot remove
+	 * them here while leaving them in place inside the render path.
+	 */
+	private long[] calibrateArgumentArrayBytes()
+	{
+		int calls = 100_000;
+		long[] bytes = new long[StubNpc.MAX_ARGUMENTS + 1];
+		for (int n = 1; n <= StubNpc.MAX_ARGUMENTS; n++)
+		{
+			for (int round = 0; round < 3; round++)
+			{
+				long before = threadBean.getThreadAllocatedBytes(threadId);
+				for (int i = 0; i < calls; i++)
+				{
+					argsSink = new Object[n];
+				}
+				bytes[n] = (threadBean.getThreadAllocatedBytes(threadId) - before) / calls;
+			}
+		}
+		return bytes;
+	}
+}
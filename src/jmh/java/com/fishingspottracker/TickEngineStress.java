@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import com.fishingspottracker.BenchmarkStubs.StubNpc;
+import com.fishingspottracker.BenchmarkStubs.StubWorld;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Drives the tracker engine headless with a seeded synthetic load and reports per-tick
+ * latency percentiles, allocation and heap growth.
+ *
+ * Spots use real {@link FishingSpotData} NPC IDs and move after a random lifetime from their
+ * type's tick range, except a configurable share of fast spots that move every 10-25 ticks.
+ * Each tick some spots despawn and are replaced elsewhere, and the location cache starts
+ * full of despawned spots from a long route, expiring over the run. A tick's latency and
+ * allocation cover its spawn and despawn events plus {@link SpotTrackerEngine#gameTick()}
+ * only: moves and replacement NPCs are made before the timed window, and the harness keeps
+ * its own bookkeeping in primitive arrays.
+ *
+ * Run with {@code ./gradlew stress}. Scale is set with system properties, passed through as
+ * {@code -Pstress.<name>=<value>}:
+ * <ul>
+ * <li>{@code stress.spots}: spots in view (default 300)</li>
+ * <li>{@code stress.cached}: despawned spots in the location cache at the start (default 5000)</li>
+ * <li>{@code stress.fast}: share of spots on fast rotation, 0-1 (default 0.25)</li>
+ * <li>{@code stress.churn}: spots despawned and replaced per tick (default 0.5)</li>
+ * <li>{@code stress.ticks}: measured ticks (default 20000)</li>
+ * <li>{@code stress.warmup}: unmeasured ticks first (default 5000)</li>
+ * <li>{@code stress.seed}: random seed (default 1)</li>
+ * </ul>
+ */
+public class TickEngineStress
+{
+	private static final int START_TICK = 10_000;
+	private static final int FAST_MIN_TICKS = 10;
+	private static final int FAST_MAX_TICKS = 25;
+	// Move tick for static spots, which stay put
+	private static final int NEVER = Integer.MAX_VALUE;
+
+	/**
+	 * Spots live in a square of this many tiles around the player.
+	 */
+	private static final int AREA_SIZE = 64;
+	private static final int AREA_X = 3000;
+	private static final int AREA_Y = 3000;
+
+	private static final FishingSpotData[] TYPES = FishingSpotData.values();
+
+	private final int spotCount = Integer.getInteger("stress.spots", 300);
+	private final int cachedCount = Integer.getInteger("stress.cached", 5000);
+	private final double fastShare = Double.parseDouble(System.getProperty("stress.fast", "0.25"));
+	private final double churn = Double.parseDouble(System.getProperty("stress.churn", "0.5"));
+	private final int measuredTicks = Integer.getInteger("stress.ticks", 20000);
+	private final int warmupTicks = Integer.getInteger("stress.warmup", 5000);
+	private final long seed = Long.getLong("stress.seed", 1);
+
+	private final SplittableRandom random = new SplittableRandom(seed);
+	private final StubWorld world = new StubWorld();
+	private final SpotTrackerEngine engine = BenchmarkStubs.plugin(world, BenchmarkStubs.config(Map.of(
+		"showSpotName", true,
+		"showStaticSpots", true,
+		"highlightNearestFresh", true,
+		"showMoveChance", true)));
+
+	private final com.sun.management.ThreadMXBean threadBean =
+		(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	private final long threadId = Thread.currentThread().getId();
+
+	/**
+	 * What reading the thread's allocation counter allocates, subtracted from each tick.
+	 */
+	private long probeBytes;
+
+	/**
+	 * Bytes allocated inside the timed windows since the last reset.
+	 */
+	private long allocatedBytes;
+
+	// Live spots and the tick each one next moves on, by slot
+	private final StubNpc[] spots = new StubNpc[spotCount];
+	private final int[] moveTicks = new int[spotCount];
+	private final boolean[] fast = new boolean[spotCount];
+	private int nextIndex;
+
+	// This tick's replaced spots and their replacements, made before the timed window
+	private final StubNpc[] leaving = new StubNpc[(int) churn + 1];
+	private final StubNpc[] arriving = new StubNpc[(int) churn + 1];
+
+	public static void main(String[] args)
+	{
+		new TickEngineStress().run();
+	}
+
+	private void run()
+	{
+		world.playerLocation = BenchmarkStubs.toLocal(new WorldPoint(AREA_X + AREA_SIZE / 2, AREA_Y + AREA_SIZE / 2, 0));
+		world.tickCount = START_TICK;
+		fillLocationCache();
+		for (int i = 0; i < spotCount; i++)
+		{
+			StubNpc npc = placeSpot(i);
+			world.npcs.add(npc.npc);
+			engine.npcSpawned(npc.npc);
+		}
+
+		probeBytes = calibrateProbeBytes();
+		for (int i = 0; i < warmupTicks; i++)
+		{
+			tick();
+		}
+
+		long heapBefore = usedHeapAfterGc();
+		allocatedBytes = 0;
+
+		long[] latencies = new long[measuredTicks];
+		for (int i = 0; i < measuredTicks; i++)
+		{
+			latencies[i] = tick();
+		}
+
+		long allocated = allocatedBytes;
+		long heapAfter = usedHeapAfterGc();
+
+		Arrays.sort(latencies);
+		System.out.printf("Tick engine stress: %d spots, %d cached, %.0f%% fast, %.2f churn/tick, seed %d, %d ticks%n",
+			spotCount, cachedCount, fastShare * 100, churn, seed, measuredTicks);
+		System.out.printf("Tick latency (us): p50 %.1f, p90 %.1f, p99 %.1f, p99.9 %.1f, max %.1f, mean %.1f%n",
+			percentile(latencies, 0.5), percentile(latencies, 0.9), percentile(latencies, 0.99),
+			percentile(latencies, 0.999), latencies[latencies.length - 1] / 1000.0, mean(latencies));
+		System.out.printf("Allocation: %.0f B/tick; heap growth: %+.1f KiB (%d KiB retained)%n",
+			(double) allocated / measuredTicks, (heapAfter - heapBefore) / 1024.0, heapAfter / 1024);
+	}
+
+	/**
+	 * Spawns and despawns spots along a route outside the area, with despawn ticks spread
+	 * over the cache window so entries keep expiring during the run.
+	 */
+	private void fillLocationCache()
+	{
+		int tick = world.tickCount;
+		for (int i = 0; i < cachedCount; i++)
+		{
+			world.tickCount = tick - 1500 + (int) ((long) i * 1500 / Math.max(1, cachedCount));
+			FishingSpotData type = TYPES[random.nextInt(TYPES.length)];
+			StubNpc npc = new StubNpc(nextIndex++, npcId(type), new WorldPoint(1000 + i % 1000, 5000 + i / 1000, 0));
+			engine.npcSpawned(npc.npc);
+			engine.npcDespawned(npc.npc);
+		}
+		world.tickCount = tick;
+	}
+
+	/**
+	 * Advances one tick and returns the nanoseconds the engine spent on it.
+	 */
+	private long tick()
+	{
+		int tick = ++world.tickCount;
+
+		// Move spots whose time is up; the engine sees the new tiles on the tick
+		for (int i = 0; i < spotCount; i++)
+		{
+			if (moveTicks[i] <= tick)
+			{
+				spots[i].moveTo(randomTile());
+				moveTicks[i] = nextMoveTick(FishingSpotData.findSpot(spots[i].id), fast[i]);
+			}
+		}
+
+		// Replace spots in their slots up front. A slot picked twice replaces the first
+		// replacement, which the engine will have seen spawn by then.
+		int replaced = spotCount == 0 ? 0 : (int) churn + (random.nextDouble() < churn - (int) churn ? 1 : 0);
+		for (int r = 0; r < replaced; r++)
+		{
+			int i = random.nextInt(spotCount);
+			leaving[r] = spots[i];
+			arriving[r] = placeSpot(i);
+			world.npcs.remove(leaving[r].npc);
+			world.npcs.add(arriving[r].npc);
+		}
+
+		long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+		for (int r = 0; r < replaced; r++)
+		{
+			engine.npcDespawned(leaving[r].npc);
+			engine.npcSpawned(arriving[r].npc);
+		}
+		engine.gameTick();
+		long elapsed = System.nanoTime() - start;
+		allocatedBytes += threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore - probeBytes;
+
+		Arrays.fill(leaving, 0, replaced, null);
+		Arrays.fill(arriving, 0, replaced, null);
+		return elapsed;
+	}
+
+	/**
+	 * Puts a new spot of a random type on a random tile into slot {@code i} and returns it.
+	 */
+	private StubNpc placeSpot(int i)
+	{
+		FishingSpotData type = TYPES[random.nextInt(TYPES.length)];
+		boolean isFast = !type.isStatic() && random.nextDouble() < fastShare;
+		StubNpc npc = new StubNpc(nextIndex++, npcId(type), randomTile());
+		spots[i] = npc;
+		moveTicks[i] = nextMoveTick(type, isFast);
+		fast[i] = isFast;
+		return npc;
+	}
+
+	/**
+	 * Returns the fewest bytes seen between two back-to-back allocation counter reads.
+	 */
+	private long calibrateProbeBytes()
+	{
+		long min = Long.MAX_VALUE;
+		for (int i = 0; i < 10_000; i++)
+		{
+			long before = threadBean.getThreadAllocatedBytes(threadId);
+			min = Math.min(min, threadBean.getThreadAllocatedBytes(threadId) - before);
+		}
+		return min;
+	}
+
+	private int nextMoveTick(FishingSpotData type, boolean isFast)
+	{
+		if (isFast)
+		{
+			return world.tickCount + FAST_MIN_TICKS + random.nextInt(FAST_MAX_TICKS - FAST_MIN_TICKS + 1);
+		}
+		if (type.isStatic())
+		{
+			return NEVER;
+		}
+		return world.tickCount + type.getMinTicks() + random.nextInt(type.getMaxTicks() - type.getMinTicks() + 1);
+	}
+
+	private int npcId(FishingSpotData type)
+	{
+		int[] ids = type.getNpcIds();
+		return ids[random.nextInt(ids.length)];
+	}
+
+	private WorldPoint randomTile()
+	{
+		return new WorldPoint(AREA_X + random.nextInt(AREA_SIZE), AREA_Y + random.nextInt(AREA_SIZE), 0);
+	}
+
+	private static long usedHeapAfterGc()
+	{
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		System.gc();
+		System.gc();
+		return memory.getHeapMemoryUsage().getUsed();
+	}
+
+	private static double percentile(long[] sorted, double p)
+	{
+		return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)] / 1000.0;
+	}
+
+	private static double mean(long[] values)
+	{
+		long sum = 0;
+		for (long value : values)
+		{
+			sum += value;
+		}
+		return sum / 1000.0 / values.length;
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A single-producer ring of fixed-size records, drained to a file in batches.
+ *
+ * Subclasses keep one preallocated primitive array per record field, indexed by ring slot.
+ * The client thread claims a slot, fills it and publishes it, which never blocks or does
+ * I/O. A periodic task on the executor encodes everything published since the last drain
+ * into one buffer and hands it to the file in a single {@link FileChannel#write} call. If the
+ * writer falls a full ring behind, new records are dropped rather than blocking the client.
+ */
+@Slf4j
+abstract class BatchedRingWriter
+{
+	static final int CAPACITY = 4096;
+	private static final int MASK = CAPACITY - 1;
+	private static final long DRAIN_INTERVAL_MILLIS = 1000;
+
+	private final String name;
+
+	/**
+	 * Next slot to write, advanced by the client thread after a slot is filled.
+	 */
+	private volatile long tail;
+
+	/**
+	 * Next slot to drain, advanced by the writer after a batch is handled.
+	 */
+	private volatile long head;
+
+	private long dropped;
+
+	private ScheduledExecutorService executor;
+	private ScheduledFuture<?> drainTask;
+
+	// Writer-only state
+	private final ByteBuffer batch;
+
+	BatchedRingWriter(String name, int recordBytes)
+	{
+		this.name = name;
+		this.batch = ByteBuffer.allocateDirect(CAPACITY * recordBytes);
+	}
+
+	boolean isRunning()
+	{
+		return drainTask != null;
+	}
+
+	/**
+	 * Starts the periodic writer. Records made while stopped are ignored.
+	 */
+	void start(ScheduledExecutorService executor)
+	{
+		if (drainTask != null)
+		{
+			return;
+		}
+
+		this.executor = executor;
+		drainTask = executor.scheduleWithFixedDelay(this::drain, DRAIN_INTERVAL_MILLIS,
+			DRAIN_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stops the periodic writer, then writes out whatever is still queued and calls
+	 * {@link #stopped} on the executor.
+	 */
+	void stop()
+	{
+		if (drainTask == null)
+		{
+			return;
+		}
+
+		drainTask.cancel(false);
+		drainTask = null;
+		if (dropped > 0)
+		{
+			log.debug("{} dropped {} records", name, dropped);
+			dropped = 0;
+		}
+		executor.execute(() ->
+		{
+			drain();
+			stopped();
+		});
+	}
+
+	/**
+	 * Claims the next ring slot for the client thread to fill, or returns -1 if the writer is
+	 * stopped or the ring is full. A claimed slot must be filled and then {@link #publish}ed.
+	 */
+	final int claim()
+	{
+		if (drainTask == null)
+		{
+			return -1;
+		}
+
+		long t = tail;
+		if (t - head == CAPACITY)
+		{
+			dropped++;
+			return -1;
+		}
+		return (int) t & MASK;
+	}
+
+	/**
+	 * Hands the last claimed slot to the writer.
+	 */
+	final void publish()
+	{
+		tail = tail + 1;
+	}
+
+	/**
+	 * Returns the channel to append the next batch to, opening or rotating it as needed,
+	 * or null to discard the batch. Called on the executor.
+	 */
+	abstract FileChannel writableChannel() throws IOException;
+
+	/**
+	 * Appends one record to the batch.
+	 */
+	abstract void encode(int slot, ByteBuffer batch);
+
+	/**
+	 * Called on the executor after a batch failed to write. The batch is discarded.
+	 */
+	abstract void writeFailed(IOException e);
+
+	/**
+	 * Called on the executor once the last batch after {@link #stop} is handled.
+	 */
+	abstract void stopped();
+
+	private void drain()
+	{
+		long h = head;
+		long t = tail;
+		if (h == t)
+		{
+			return;
+		}
+
+		try
+		{
+			FileChannel channel = writableChannel();
+			if (channel == null)
+			{
+				return;
+			}
+
+			batch.clear();
+			for (long i = h; i < t; i++)
+			{
+				encode((int) i & MASK, batch);
+			}
+			batch.flip();
+
+			// The file is opened in append mode, so one write call places the whole batch
+			while (batch.hasRemaining())
+			{
+				channel.write(batch);
+			}
+		}
+		catch (IOException e)
+		{
+			writeFailed(e);
+		}
+		finally
+		{
+			// Free the slots even on failure so the client thread is never stuck on a full ring
+			head = t;
+		}
+	}
+}
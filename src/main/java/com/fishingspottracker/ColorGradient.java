@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.awt.Color;
+
+/**
+ * Fresh-to-expired color ramp precomputed at a fixed number of steps, so mapping a
+ * spot's progress to a color is an array read rather than a blend and an allocation.
+ */
+class ColorGradient
+{
+	static final int STEPS = 256;
+
+	private final Color[] strokeColors = new Color[STEPS];
+	private final Color[] fillColors = new Color[STEPS];
+	private final Color[] opaqueColors = new Color[STEPS];
+
+	/**
+	 * @param from  color at progress 0
+	 * @param to    color at progress 1
+	 * @param alpha stroke alpha; the fill uses a third of it
+	 */
+	ColorGradient(Color from, Color to, int alpha)
+	{
+		int fillAlpha = Math.max(0, alpha / 3);
+		for (int i = 0; i < STEPS; i++)
+		{
+			Color base = blendColors(from, to, (double) i / (STEPS - 1));
+			opaqueColors[i] = base;
+			strokeColors[i] = RenderSettings.withAlpha(base, alpha);
+			fillColors[i] = RenderSettings.withAlpha(base, fillAlpha);
+		}
+	}
+
+	static int index(double progress)
+	{
+		double clamped = Math.max(0.0, Math.min(1.0, progress));
+		return (int) Math.round(clamped * (STEPS - 1));
+	}
+
+	/**
+	 * Ramp color with the circle opacity applied.
+	 */
+	Color stroke(double progress)
+	{
+		return strokeColors[index(progress)];
+	}
+
+	/**
+	 * Ramp color at the translucent pie-fill opacity.
+	 */
+	Color fill(double progress)
+	{
+		return fillColors[index(progress)];
+	}
+
+	/**
+	 * Opaque ramp color, used for text and minimap dots.
+	 */
+	Color opaque(double progress)
+	{
+		return opaqueColors[index(progress)];
+	}
+
+	private static Color blendColors(Color from, Color to, double progress)
+	{
+		float t = (float) Math.max(0.0, Math.min(1.0, progress));
+		int r = Math.round(from.getRed() + t * (to.getRed() - from.getRed()));
+		int g = Math.round(from.getGreen() + t * (to.getGreen() - from.getGreen()));
+		int b = Math.round(from.getBlue() + t * (to.getBlue() - from.getBlue()));
+		return new Color(r, g, b);
+	}
+}
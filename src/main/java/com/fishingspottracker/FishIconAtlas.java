@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.util.AsyncBufferedImage;
+
+/**
+ * Every fish icon the scene overlay can draw, packed into one image.
+ *
+ * Each distinct fish item gets a fixed cell, assigned up front from {@link FishingSpotData}.
+ * A spot type's icons are requested from the item manager the first time the type is seen,
+ * and each is copied into its cell once loaded, trimmed to its visible pixels. The trimmed
+ * bounds and the offset that centers the original icon on a spot are stored per item, so
+ * drawing an icon is one region copy from the atlas. Icons still loading are not drawn.
+ *
+ * Client thread only.
+ */
+class FishIconAtlas
+{
+	/**
+	 * Item icon size, and so the size of an atlas cell.
+	 */
+	private static final int CELL_WIDTH = 36;
+	private static final int CELL_HEIGHT = 32;
+	private static final int COLUMNS = 16;
+
+	private static final byte MISSING = 0;
+	private static final byte LOADING = 1;
+	private static final byte LOADED = 2;
+
+	private static final FishingSpotData[] TYPES = FishingSpotData.values();
+
+	private final IntIntMap slotByItemId = new IntIntMap(64);
+	private final boolean[] typeRequested = new boolean[TYPES.length];
+	private final int slots;
+	private BufferedImage atlas;
+
+	// Per slot: load state, trimmed source rectangle in the atlas, and draw offset from the spot
+	private final byte[] state;
+	private final int[] sourceX;
+	private final int[] sourceY;
+	private final int[] width;
+	private final int[] height;
+	private final int[] offsetX;
+	private final int[] offsetY;
+
+	FishIconAtlas()
+	{
+		int count = 0;
+		for (FishingSpotData type : TYPES)
+		{
+			for (FishingSpotData.Fish fish : type.getFish())
+			{
+				if (slotByItemId.get(fish.getItemId()) == IntIntMap.NO_VALUE)
+				{
+					slotByItemId.put(fish.getItemId(), count++);
+				}
+			}
+		}
+
+		slots = count;
+		state = new byte[count];
+		sourceX = new int[count];
+		sourceY = new int[count];
+		width = new int[count];
+		height = new int[count];
+		offsetX = new int[count];
+		offsetY = new int[count];
+	}
+
+	/**
+	 * Requests the icons of every fish at a spot type, once per type.
+	 */
+	void prefetch(FishingSpotData spotData, ItemManager itemManager)
+	{
+		int type = spotData.ordinal();
+		if (typeRequested[type])
+		{
+			return;
+		}
+		typeRequested[type] = true;
+
+		for (FishingSpotData.Fish fish : spotData.getFish())
+		{
+			int slot = slotByItemId.get(fish.getItemId());
+			if (state[slot] != MISSING)
+			{
+				continue;
+			}
+
+			AsyncBufferedImage image = itemManager.getImage(fish.getItemId());
+			if (image != null)
+			{
+				state[slot] = LOADING;
+				image.onLoaded(() -> place(slot, image));
+			}
+		}
+	}
+
+	/**
+	 * Draws a fish's icon centered on (x, y). Returns false if it has not loaded yet.
+	 */
+	boolean draw(Graphics2D graphics, FishingSpotData.Fish fish, int x, int y)
+	{
+		int slot = slotByItemId.get(fish.getItemId());
+		if (slot == IntIntMap.NO_VALUE || state[slot] != LOADED)
+		{
+			return false;
+		}
+
+		int dx = x + offsetX[slot];
+		int dy = y + offsetY[slot];
+		int sx = sourceX[slot];
+		int sy = sourceY[slot];
+		graphics.drawImage(atlas, dx, dy, dx + width[slot], dy + height[slot],
+			sx, sy, sx + width[slot], sy + height[slot], null);
+		return true;
+	}
+
+	/**
+	 * Places an already-loaded icon for a fish, for callers without an item manager.
+	 */
+	void put(FishingSpotData.Fish fish, BufferedImage image)
+	{
+		int slot = slotByItemId.get(fish.getItemId());
+		if (state[slot] == MISSING)
+		{
+			state[slot] = LOADING;
+			place(slot, image);
+		}
+	}
+
+	/**
+	 * Copies a loaded icon's visible pixels into its cell.
+	 */
+	private void place(int slot, BufferedImage image)
+	{
+		if (state[slot] != LOADING)
+		{
+			return;
+		}
+
+		if (atlas == null)
+		{
+			int rows = (slots + COLUMNS - 1) / COLUMNS;
+			atlas = new BufferedImage(COLUMNS * CELL_WIDTH, rows * CELL_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+		}
+
+		// Bounding box of the non-transparent pixels
+		int w = Math.min(image.getWidth(), CELL_WIDTH);
+		int h = Math.min(image.getHeight(), CELL_HEIGHT);
+		int minX = w;
+		int minY = h;
+		int maxX = -1;
+		int maxY = -1;
+		for (int y = 0; y < h; y++)
+		{
+			for (int x = 0; x < w; x++)
+			{
+				if ((image.getRGB(x, y) >>> 24) != 0)
+				{
+					minX = Math.min(minX, x);
+					minY = Math.min(minY, y);
+					maxX = Math.max(maxX, x);
+					maxY = Math.max(maxY, y);
+				}
+			}
+		}
+
+		int cellX = slot % COLUMNS * CELL_WIDTH;
+		int cellY = slot / COLUMNS * CELL_HEIGHT;
+		for (int y = minY; y <= maxY; y++)
+		{
+			for (int x = minX; x <= maxX; x++)
+			{
+				atlas.setRGB(cellX + x, cellY + y, image.getRGB(x, y));
+			}
+		}
+
+		sourceX[slot] = cellX + minX;
+		sourceY[slot] = cellY + minY;
+		width[slot] = Math.max(0, maxX - minX + 1);
+		height[slot] = Math.max(0, maxY - minY + 1);
+		offsetX[slot] = minX - image.getWidth() / 2;
+		offsetY[slot] = minY - image.getHeight() / 2;
+		state[slot] = LOADED;
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import lombok.Getter;
+import net.runelite.api.Actor;
+import net.runelite.api.NPC;
+
+/**
+ * Whether the local player is fishing, and at which spot, kept up to date from animation
+ * and interaction events rather than polled.
+ *
+ * Client thread only.
+ */
+class FishingActivity
+{
+	/**
+	 * Animation IDs that indicate the player is actively fishing.
+	 */
+	private static final int[] FISHING_ANIMATION_IDS = {
+		621, 622, 623, 619, 620, 624, 625, 626, 627, 628, 629,
+		632, 633, 5108, 6703, 6704, 6706, 6707, 6708, 6709, 6710,
+		7401, 8336, 9350, 9353, 9354, 9355, 9356, 9357, 9358, 9359,
+		9360, 9361, 9362
+	};
+
+	/**
+	 * Ticks without the fishing animation, while still on a spot, before that counts as a
+	 * stop. Longer than the animation's gap between catches.
+	 */
+	static final int STOP_GRACE_TICKS = 3;
+
+	/**
+	 * {@link #idleTicks} when there is no candidate stop.
+	 */
+	private static final int NO_STOP = -1;
+
+	/**
+	 * {@link #FISHING_ANIMATION_IDS} as a bitset indexed by animation ID.
+	 */
+	private static final long[] FISHING_ANIMATIONS;
+
+	static
+	{
+		int max = 0;
+		for (int id : FISHING_ANIMATION_IDS)
+		{
+			max = Math.max(max, id);
+		}
+
+		FISHING_ANIMATIONS = new long[(max >>> 6) + 1];
+		for (int id : FISHING_ANIMATION_IDS)
+		{
+			FISHING_ANIMATIONS[id >>> 6] |= 1L << id;
+		}
+	}
+
+	@Getter
+	private boolean fishing;
+
+	/**
+	 * The fishing spot the player is interacting with, or null.
+	 */
+	@Getter
+	private NPC activeSpot;
+
+	/**
+	 * Ticks polled since the fishing animation ended, or {@link #NO_STOP} if it has restarted
+	 * or the stop was reported since. The animation also drops out briefly between catches, so
+	 * this is only a candidate stop until {@link #STOP_GRACE_TICKS} pass.
+	 */
+	private int idleTicks = NO_STOP;
+
+	static boolean isFishingAnimation(int animation)
+	{
+		int word = animation >>> 6;
+		return word < FISHING_ANIMATIONS.length && (FISHING_ANIMATIONS[word] & (1L << animation)) != 0;
+	}
+
+	void animationChanged(int animation)
+	{
+		boolean wasFishing = fishing;
+		fishing = isFishingAnimation(animation);
+		if (fishing)
+		{
+			idleTicks = NO_STOP;
+		}
+		else if (wasFishing)
+		{
+			idleTicks = 0;
+		}
+	}
+
+	/**
+	 * Returns whether the player has stopped fishing: the animation ended and either the
+	 * player left the spot or the animation stayed off for {@link #STOP_GRACE_TICKS}, since
+	 * the interaction is not always cleared when fishing stops. Each stop is reported once.
+	 * Called once per tick, after the tick's events.
+	 */
+	boolean pollStopped()
+	{
+		if (idleTicks == NO_STOP || fishing)
+		{
+			return false;
+		}
+
+		idleTicks++;
+		if (activeSpot != null && idleTicks < STOP_GRACE_TICKS)
+		{
+			return false;
+		}
+
+		idleTicks = NO_STOP;
+		return true;
+	}
+
+	void interactingChanged(Actor target)
+	{
+		NPC npc = target instanceof NPC ? (NPC) target : null;
+		activeSpot = npc != null && FishingSpotData.findSpot(npc.getId()) != null ? npc : null;
+	}
+
+	/**
+	 * Drops the active spot if it despawned, so it is not held on to.
+	 */
+	void npcDespawned(NPC npc)
+	{
+		if (npc == activeSpot)
+		{
+			activeSpot = null;
+		}
+	}
+
+	void clear()
+	{
+		fishing = false;
+		activeSpot = null;
+		idleTicks = NO_STOP;
+	}
+}
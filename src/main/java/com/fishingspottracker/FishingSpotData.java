@@ -24,8 +24,6 @@
  */
 package com.fishingspottracker;
 
-import com.google.common.collect.ImmutableMap;
-import java.util.Map;
 import java.util.Set;
 import lombok.Getter;
 
@@ -210,7 +208,11 @@ public enum FishingSpotData
 
 	static final int DEFAULT_MAX_TICKS = 530;
 
-	private static final Map<Integer, FishingSpotData> SPOT_MAP;
+	/**
+	 * Dense lookup table indexed directly by NPC ID. Fishing spot IDs top out in the
+	 * low tens of thousands, so a flat array is small and avoids boxing on every lookup.
+	 */
+	private static final FishingSpotData[] SPOT_LOOKUP;
 
 	private final String name;
 	private final int minTicks;
@@ -220,15 +222,27 @@ public enum FishingSpotData
 
 	static
 	{
-		ImmutableMap.Builder<Integer, FishingSpotData> builder = new ImmutableMap.Builder<>();
+		int maxId = 0;
+		for (FishingSpotData spot : values())
+		{
+			for (int id : spot.npcIds)
+			{
+				maxId = Math.max(maxId, id);
+			}
+		}
+
+		SPOT_LOOKUP = new FishingSpotData[maxId + 1];
 		for (FishingSpotData spot : values())
 		{
 			for (int id : spot.npcIds)
 			{
-				builder.put(id, spot);
+				if (SPOT_LOOKUP[id] != null)
+				{
+					throw new IllegalStateException("Duplicate fishing spot NPC ID " + id);
+				}
+				SPOT_LOOKUP[id] = spot;
 			}
 		}
-		SPOT_MAP = builder.build();
 	}
 
 	FishingSpotData(String name, int minTicks, int maxTicks, Fish[] fish, int... npcIds)
@@ -245,7 +259,11 @@ public enum FishingSpotData
 	 */
 	public static FishingSpotData findSpot(int npcId)
 	{
-		return SPOT_MAP.get(npcId);
+		if (npcId < 0 || npcId >= SPOT_LOOKUP.length)
+		{
+			return null;
+		}
+		return SPOT_LOOKUP[npcId];
 	}
 
 	/**
@@ -265,7 +283,7 @@ public enum FishingSpotData
 	{
 		for (Fish f : fish)
 		{
-			if (!ignoredFish.contains(f.name.toLowerCase()))
+			if (!ignoredFish.contains(f.lowerCaseName))
 			{
 				return f;
 			}
@@ -299,9 +317,15 @@ public enum FishingSpotData
 		private final int level;
 		private final int itemId;
 
+		/**
+		 * The name as it is matched against the ignore list.
+		 */
+		private final String lowerCaseName;
+
 		Fish(String name, int level, int itemId)
 		{
 			this.name = name;
+			this.lowerCaseName = name.toLowerCase();
 			this.level = level;
 			this.itemId = itemId;
 		}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import javax.inject.Inject;
+import net.runelite.client.ui.overlay.OverlayPanel;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.TitleComponent;
+
+/**
+ * Developer-mode panel showing where tick time goes: p50/p99/max per {@link TickPhase} in
+ * microseconds, plus how many spots are tracked and cached. Below that, each overlay's
+ * frame cost and per-frame spot counts, averaged over the last
+ * {@link OverlayFrameStats#WINDOW} frames.
+ */
+public class FishingSpotDebugOverlay extends OverlayPanel
+{
+	private static final TickPhase[] PHASES = TickPhase.values();
+
+	private final FishingSpotTrackerPlugin plugin;
+
+	@Inject
+	FishingSpotDebugOverlay(FishingSpotTrackerPlugin plugin)
+	{
+		super(plugin);
+		this.plugin = plugin;
+		setPosition(OverlayPosition.TOP_LEFT);
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		TickProfile profile = plugin.getTickProfile();
+		if (!plugin.getRenderSettings().showDebugOverlay || profile == null)
+		{
+			return null;
+		}
+
+		addTickTimings(profile);
+		addFrameStats("Scene overlay", plugin.getSceneFrameStats(), true);
+		if (plugin.getRenderSettings().showMinimapDots)
+		{
+			addFrameStats("Minimap overlay", plugin.getMinimapFrameStats(), false);
+		}
+		return super.render(graphics);
+	}
+
+	private void addTickTimings(TickProfile profile)
+	{
+		panelComponent.getChildren().add(TitleComponent.builder()
+			.text("Tick p50 / p99 / max (µs)")
+			.build());
+		for (TickPhase phase : PHASES)
+		{
+			int i = phase.ordinal();
+			addLine(phase.getName(), micros(profile.p50[i]) + " / " + micros(profile.p99[i]) + " / " + micros(profile.max[i]));
+		}
+		addLine("Ticks", Long.toString(profile.ticks));
+		addLine("Tracked spots", Integer.toString(profile.trackedSpots));
+		addLine("Cached spots", Integer.toString(profile.cachedSpots));
+	}
+
+	/**
+	 * Adds frame cost and average per-frame counts. The minimap neither dedupes nor draws
+	 * icons or labels, so those lines are left off for it; instead it shows how often its
+	 * cached dot layer is rebuilt.
+	 */
+	private void addFrameStats(String title, OverlayFrameStats stats, boolean scene)
+	{
+		panelComponent.getChildren().add(TitleComponent.builder()
+			.text(title)
+			.build());
+		addLine("Frame avg / max (µs)", String.format("%.1f / %.1f", stats.averageMicros(), stats.maxMicros()));
+		addLine("Spots", stats.averageConsidered());
+		if (scene)
+		{
+			addLine("Deduped", stats.averageDeduped());
+		}
+		addLine("Culled", stats.averageCulled());
+		addLine("Drawn", stats.averageDrawn());
+		if (scene)
+		{
+			addLine("Icons", stats.averageIcons());
+			addLine("Labels", stats.averageLabels());
+		}
+		else
+		{
+			addLine("Layer rebuilds", String.format("%.0f%%", stats.averageRebuilt() * 100));
+		}
+	}
+
+	private void addLine(String left, double perFrame)
+	{
+		addLine(left, String.format("%.1f", perFrame));
+	}
+
+	private void addLine(String left, String right)
+	{
+		panelComponent.getChildren().add(LineComponent.builder()
+			.left(left)
+			.right(right)
+			.build());
+	}
+
+	private static String micros(long nanos)
+	{
+		return nanos < 10_000 ? String.format("%.1f", nanos / 1000.0) : Long.toString(nanos / 1000);
+	}
+}
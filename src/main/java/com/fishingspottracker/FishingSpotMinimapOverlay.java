@@ -24,13 +24,14 @@
  */
 package com.fishingspottracker;
 
-import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
+import java.util.List;
 import javax.inject.Inject;
-import net.runelite.api.NPC;
+import net.runelite.api.Client;
+import net.runelite.api.Player;
 import net.runelite.api.Point;
+import net.runelite.api.coords.LocalPoint;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -38,16 +39,25 @@ import net.runelite.client.ui.overlay.OverlayPriority;
 
 public class FishingSpotMinimapOverlay extends Overlay
 {
-	private static final int DOT_SIZE = 4;
-
 	private final FishingSpotTrackerPlugin plugin;
-	private final FishingSpotTrackerConfig config;
+	private final OverlayFrameStats frameStats;
+	private final MinimapDotLayer layer = new MinimapDotLayer();
+
+	// What the layer was built from. Dot colors change only with the render model, and
+	// dot positions only with it or with the minimap's center, rotation, zoom or placement.
+	private int layerModelVersion = -1;
+	private int layerCenterX;
+	private int layerCenterY;
+	private int layerAngle;
+	private double layerZoom;
+	private int layerCanvasWidth;
+	private int layerCanvasHeight;
 
 	@Inject
-	FishingSpotMinimapOverlay(FishingSpotTrackerPlugin plugin, FishingSpotTrackerConfig config)
+	FishingSpotMinimapOverlay(FishingSpotTrackerPlugin plugin)
 	{
 		this.plugin = plugin;
-		this.config = config;
+		this.frameStats = plugin.getMinimapFrameStats();
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_WIDGETS);
 		setPriority(OverlayPriority.LOW);
@@ -56,50 +66,84 @@ public class FishingSpotMinimapOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		if (!config.showMinimapDots())
+		if (!plugin.getRenderSettings().showMinimapDots)
 		{
 			return null;
 		}
 
-		graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		long start = System.nanoTime();
+		frameStats.beginFrame();
+		renderDots(graphics);
+		frameStats.endFrame(System.nanoTime() - start);
+		return null;
+	}
 
-		for (NPC npc : plugin.getTrackedSpots().keySet())
+	private void renderDots(Graphics2D graphics)
+	{
+		List<SpotRenderInfo> model = plugin.getRenderModel();
+		frameStats.considered = model.size();
+		if (model.isEmpty())
 		{
-			if (npc.getId() == -1)
-			{
-				continue;
-			}
-
-			FishingSpotData spotData = FishingSpotData.findSpot(npc.getId());
-			if (spotData == null)
-			{
-				continue;
-			}
+			return;
+		}
 
-			if (spotData.isStatic() && !config.showStaticSpots())
-			{
-				continue;
-			}
+		if (layerStale())
+		{
+			rebuildLayer(model);
+			frameStats.rebuilt = 1;
+		}
 
-			Point minimapLocation = npc.getMinimapLocation();
-			if (minimapLocation == null)
-			{
-				continue;
-			}
+		layer.draw(graphics);
+		frameStats.culled = model.size() - layer.size();
+		frameStats.drawn = layer.size();
+	}
 
-			double progress = plugin.getSpotProgress(npc);
-			Color dotColor = FishingSpotTrackerOverlay.blendColors(
-				config.freshColor(), config.expiredColor(), progress);
+	/**
+	 * Whether the layer no longer matches the current tick's spots or the minimap's view,
+	 * recording the new view if so.
+	 */
+	private boolean layerStale()
+	{
+		int modelVersion = plugin.getRenderModelVersion();
+		Client client = plugin.getClient();
+		Player player = client.getLocalPlayer();
+		LocalPoint center = player != null ? player.getLocalLocation() : null;
+		int centerX = center != null ? center.getX() : Integer.MIN_VALUE;
+		int centerY = center != null ? center.getY() : Integer.MIN_VALUE;
+		int angle = client.getMapAngle();
+		double zoom = client.getMinimapZoom();
+		int canvasWidth = client.getCanvasWidth();
+		int canvasHeight = client.getCanvasHeight();
 
-			graphics.setColor(dotColor);
-			graphics.fillOval(
-				minimapLocation.getX() - DOT_SIZE / 2,
-				minimapLocation.getY() - DOT_SIZE / 2,
-				DOT_SIZE,
-				DOT_SIZE
-			);
+		if (modelVersion == layerModelVersion && centerX == layerCenterX && centerY == layerCenterY
+			&& angle == layerAngle && zoom == layerZoom
+			&& canvasWidth == layerCanvasWidth && canvasHeight == layerCanvasHeight)
+		{
+			return false;
 		}
 
-		return null;
+		layerModelVersion = modelVersion;
+		layerCenterX = centerX;
+		layerCenterY = centerY;
+		layerAngle = angle;
+		layerZoom = zoom;
+		layerCanvasWidth = canvasWidth;
+		layerCanvasHeight = canvasHeight;
+		return true;
+	}
+
+	private void rebuildLayer(List<SpotRenderInfo> model)
+	{
+		layer.clear();
+		for (int i = 0; i < model.size(); i++)
+		{
+			SpotRenderInfo spot = model.get(i);
+			Point minimapLocation = spot.npc.getMinimapLocation();
+			if (minimapLocation != null)
+			{
+				layer.add(minimapLocation.getX(), minimapLocation.getY(), spot.minimapColor);
+			}
+		}
+		layer.build();
 	}
 }
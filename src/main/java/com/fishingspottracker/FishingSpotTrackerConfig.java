@@ -30,10 +30,14 @@ import net.runelite.client.config.Config;
 import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigSection;
+import net.runelite.client.config.Range;
+import net.runelite.client.config.Units;
 
-@ConfigGroup("fishingspottracker")
+@ConfigGroup(FishingSpotTrackerConfig.GROUP)
 public interface FishingSpotTrackerConfig extends Config
 {
+	String GROUP = "fishingspottracker";
+
 	// ── Colors ─────────────────────────────────────────────────────────
 
 	@ConfigSection(
@@ -199,6 +203,63 @@ public interface FishingSpotTrackerConfig extends Config
 		return true;
 	}
 
+	@ConfigItem(
+		keyName = "highlightNearestFresh",
+		name = "Highlight Nearest Fresh Spot",
+		description = "Draw a ring around the closest spot that is less than halfway through its lifetime",
+		position = 8,
+		section = displaySection
+	)
+	default boolean highlightNearestFresh()
+	{
+		return false;
+	}
+
+	@Range(
+		min = 1,
+		max = 104
+	)
+	@ConfigItem(
+		keyName = "drawDistance",
+		name = "Draw Distance",
+		description = "Only draw spot overlays within this many tiles of the player",
+		position = 9,
+		section = displaySection
+	)
+	default int drawDistance()
+	{
+		return 104;
+	}
+
+	@ConfigItem(
+		keyName = "showMoveChance",
+		name = "Show Move Chance",
+		description = "Show the chance each spot moves within the move chance window, below the circle",
+		position = 10,
+		section = displaySection
+	)
+	default boolean showMoveChance()
+	{
+		return false;
+	}
+
+	@Range(
+		min = 1,
+		max = 500
+	)
+	@Units(Units.TICKS)
+	@ConfigItem(
+		keyName = "moveChanceTicks",
+		name = "Move Chance Window",
+		description = "How many game ticks ahead the move chance looks",
+		position = 11,
+		section = displaySection
+	)
+	default int moveChanceTicks()
+	{
+		return 50;
+	}
+
 	// ── Filtering ──────────────────────────────────────────────────────
 
 	@ConfigSection(
@@ -273,4 +334,60 @@ public interface FishingSpotTrackerConfig extends Config
 	{
 		return false;
 	}
+
+	// ── Recording ──────────────────────────────────────────────────────
+
+	@ConfigSection(
+		name = "Recording",
+		description = "Spot event recording settings",
+		position = 5,
+		closedByDefault = true
+	)
+	String recordingSection = "recording";
+
+	@ConfigItem(
+		keyName = "recordSpotEvents",
+		name = "Record Spot Events",
+		description = "Append every spot spawn, move, timer reset and despawn to a journal in the RuneLite folder",
+		position = 0,
+		section = recordingSection
+	)
+	default boolean recordSpotEvents()
+	{
+		return false;
+	}
+
+	@ConfigItem(
+		keyName = "recordSessions",
+		name = "Record Sessions",
+		description = "Capture spot spawns, positions and player state to the RuneLite folder for offline replay",
+		position = 1,
+		section = recordingSection
+	)
+	default boolean recordSessions()
+	{
+		return false;
+	}
+
+	// ── Debug ──────────────────────────────────────────────────────────
+
+	@ConfigSection(
+		name = "Debug",
+		description = "Developer diagnostics. These have no effect unless RuneLite runs in developer mode",
+		position = 6,
+		closedByDefault = true
+	)
+	String debugSection = "debug";
+
+	@ConfigItem(
+		keyName = "showDebugOverlay",
+		name = "Show Debug Overlay",
+		description = "Show per-phase tick timings and spot counts. Has no effect outside developer mode",
+		position = 0,
+		section = debugSection
+	)
+	default boolean showDebugOverlay()
+	{
+		return false;
+	}
 }
@@ -24,47 +24,55 @@
  */
 package com.fishingspottracker;
 
-import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
-import java.awt.geom.Arc2D;
-import java.awt.geom.Ellipse2D;
-import java.awt.image.BufferedImage;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.List;
 import javax.inject.Inject;
-import net.runelite.api.Actor;
+import net.runelite.api.Client;
 import net.runelite.api.NPC;
-import net.runelite.api.Player;
 import net.runelite.api.Point;
-import net.runelite.api.coords.WorldPoint;
-import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayPriority;
-import net.runelite.client.ui.overlay.OverlayUtil;
 
 public class FishingSpotTrackerOverlay extends Overlay
 {
+	/**
+	 * Extra room around the viewport, beyond the circle radius, so labels of spots just
+	 * off-screen still draw.
+	 */
+	private static final int VIEWPORT_MARGIN = 64;
+
+	/**
+	 * Marks a visible spot with no projected icon position.
+	 */
+	private static final int NO_ICON = Integer.MIN_VALUE;
+
 	private final FishingSpotTrackerPlugin plugin;
-	private final FishingSpotTrackerConfig config;
-	private final ItemManager itemManager;
+	private final FishIconAtlas iconAtlas;
+	private final OverlayFrameStats frameStats;
+	private final PieTimerSpriteCache spriteCache = new PieTimerSpriteCache();
+
+	/**
+	 * Spots that survived culling this frame, with their projected canvas positions and, for
+	 * spots showing a fish, the projected position of the NPC's mid-height.
+	 */
+	private SpotRenderInfo[] visibleSpots = new SpotRenderInfo[32];
+	private int[] screenX = new int[32];
+	private int[] screenY = new int[32];
+	private int[] iconX = new int[32];
+	private int[] iconY = new int[32];
 
 	@Inject
-	FishingSpotTrackerOverlay(
-		FishingSpotTrackerPlugin plugin,
-		FishingSpotTrackerConfig config,
-		ItemManager itemManager)
+	FishingSpotTrackerOverlay(FishingSpotTrackerPlugin plugin)
 	{
 		this.plugin = plugin;
-		this.config = config;
-		this.itemManager = itemManager;
+		this.iconAtlas = plugin.getIconAtlas();
+		this.frameStats = plugin.getSceneFrameStats();
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
 		setPriority(OverlayPriority.LOW);
@@ -73,245 +81,172 @@ public class FishingSpotTrackerOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		long start = System.nanoTime();
+		frameStats.beginFrame();
+		renderSpots(graphics);
+		frameStats.endFrame(System.nanoTime() - start);
+		return null;
+	}
 
-		// Figure out which NPC the local player is interacting with (if any)
-		NPC activeSpot = null;
-		Player localPlayer = plugin.getClient().getLocalPlayer();
-		if (localPlayer != null)
+	private void renderSpots(Graphics2D graphics)
+	{
+		List<SpotRenderInfo> model = plugin.getRenderModel();
+		frameStats.considered = model.size();
+		if (model.isEmpty())
 		{
-			Actor interacting = localPlayer.getInteracting();
-			if (interacting instanceof NPC)
-			{
-				NPC target = (NPC) interacting;
-				if (FishingSpotData.findSpot(target.getId()) != null)
-				{
-					activeSpot = target;
-				}
-			}
+			return;
 		}
 
-		NPC newestSpot = config.showNewestBadge() ? plugin.getNewestSpot() : null;
-
-		// Parse ignored fish list once per frame
-		Set<String> ignoredFish = parseIgnoredFish(config.ignoredFish());
+		RenderSettings settings = plugin.getRenderSettings();
+		int count = projectVisibleSpots(graphics, model, settings);
+		frameStats.drawn = count;
+		if (count == 0)
+		{
+			return;
+		}
 
-		// Deduplication: skip rendering multiple NPCs on the same tile
-		Set<WorldPoint> renderedTiles = new HashSet<>();
+		graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-		for (NPC npc : plugin.getTrackedSpots().keySet())
+		int radius = settings.circleRadius;
+		for (int i = 0; i < count; i++)
 		{
-			if (npc.getId() == -1)
+			SpotRenderInfo spot = visibleSpots[i];
+			int x = screenX[i];
+			int y = screenY[i];
+
+			// Render pie-timer circle
+			if (settings.showCircle)
 			{
-				continue;
+				spriteCache.draw(graphics, settings, x, y, spot.progress, spot.active);
 			}
 
-			FishingSpotData spotData = FishingSpotData.findSpot(npc.getId());
-			if (spotData == null)
+			// Ring around the nearest fresh spot
+			if (spot.nearestFresh)
 			{
-				continue;
+				spriteCache.drawHighlightRing(graphics, settings, x, y);
 			}
 
-			// Filter: static spots
-			if (spotData.isStatic() && !config.showStaticSpots())
+			// Timer text and/or newest badge
+			if (spot.timerText != null)
 			{
-				continue;
+				renderText(graphics, spot.timerText, x, y - radius - 8, spot.timerColor);
 			}
 
-			// Deduplication
-			WorldPoint wp = npc.getWorldLocation();
-			if (!renderedTiles.add(wp))
+			// Spot name (shows highest-level unfiltered fish name)
+			if (spot.nameText != null)
 			{
-				continue;
+				renderText(graphics, spot.nameText, x, y + radius + 16, spot.textColor);
 			}
 
-			// Filter: skip spot entirely if all its fish are ignored
-			if (!ignoredFish.isEmpty() && spotData.getDisplayFish(ignoredFish) == null)
+			if (spot.moveChanceText != null)
 			{
-				continue;
+				int offset = spot.nameText != null ? 30 : 16;
+				renderText(graphics, spot.moveChanceText, x, y + radius + offset, spot.textColor);
 			}
 
-			boolean isActive = npc.equals(activeSpot);
-			boolean isNewest = npc.equals(newestSpot);
-			renderSpotOverlay(graphics, npc, spotData, isActive, isNewest, ignoredFish);
+			// Fish icon near the NPC's mid-height, over the text (hidden if all fish at this spot
+			// are ignored)
+			if (iconY[i] != NO_ICON && iconAtlas.draw(graphics, spot.iconFish, iconX[i], iconY[i]))
+			{
+				frameStats.icons++;
+			}
 		}
 
-		return null;
+		// Don't hold on to despawned NPCs between frames
+		Arrays.fill(visibleSpots, 0, count, null);
 	}
 
-	private void renderSpotOverlay(Graphics2D graphics, NPC npc, FishingSpotData spotData,
-		boolean isActive, boolean isNewest, Set<String> ignoredFish)
+	/**
+	 * Culls spots by tile distance and viewport, then projects each survivor exactly once
+	 * into the shared screen-position buffers. Returns the number of visible spots.
+	 */
+	private int projectVisibleSpots(Graphics2D graphics, List<SpotRenderInfo> model, RenderSettings settings)
 	{
-		double progress = plugin.getSpotProgress(npc);
-		Color baseColor;
-		if (isActive)
-		{
-			baseColor = config.activeColor();
-		}
-		else
+		int size = model.size();
+		if (visibleSpots.length < size)
 		{
-			baseColor = blendColors(config.freshColor(), config.expiredColor(), progress);
+			int capacity = Integer.highestOneBit(size) << 1;
+			visibleSpots = new SpotRenderInfo[capacity];
+			screenX = new int[capacity];
+			screenY = new int[capacity];
+			iconX = new int[capacity];
+			iconY = new int[capacity];
 		}
 
-		int alpha = Math.max(0, Math.min(255, config.circleOpacity()));
-		Color strokeColor = new Color(baseColor.getRed(), baseColor.getGreen(), baseColor.getBlue(), alpha);
+		Client client = plugin.getClient();
+		int playerTile = plugin.getRenderPlayerTile();
+		int margin = settings.circleRadius + VIEWPORT_MARGIN;
+		int minX = client.getViewportXOffset() - margin;
+		int minY = client.getViewportYOffset() - margin;
+		int maxX = client.getViewportXOffset() + client.getViewportWidth() + margin;
+		int maxY = client.getViewportYOffset() + client.getViewportHeight() + margin;
 
-		// Render pie-timer circle
-		if (config.showCircle())
+		int count = 0;
+		for (int i = 0; i < size; i++)
 		{
-			renderCircleHighlight(graphics, npc, strokeColor, alpha, baseColor, progress);
-		}
-
-		// Position for text elements — use canvas text location
-		Point canvasPoint = npc.getCanvasTextLocation(graphics, "", npc.getLogicalHeight() + 40);
-		if (canvasPoint == null)
-		{
-			return;
-		}
-
-		int radius = config.circleRadius();
-
-		// Timer text (with optional star prefix for newest spot)
-		if (config.showTimer())
-		{
-			Integer spawnTick = plugin.getSpawnTick(npc);
-			if (spawnTick != null)
+			SpotRenderInfo spot = model.get(i);
+			if (!spot.inScene)
 			{
-				int elapsedTicks = plugin.getClient().getTickCount() - spawnTick;
-				int elapsedSeconds = elapsedTicks * 600 / 1000;
-				int minutes = elapsedSeconds / 60;
-				int seconds = elapsedSeconds % 60;
-
-				String timerText;
-				if (spotData.isUnpredictable())
-				{
-					timerText = String.format("%d:%02d (?)", minutes, seconds);
-				}
-				else
+				// Spots whose fish are all ignored are hidden, not deduplicated
+				if (spot.duplicate)
 				{
-					timerText = String.format("%d:%02d", minutes, seconds);
+					frameStats.deduped++;
 				}
+				continue;
+			}
 
-				// Prepend star for newest spot
-				if (isNewest)
-				{
-					timerText = "\u2605 " + timerText;
-				}
-
-				Point textPoint = new Point(canvasPoint.getX(),
-					canvasPoint.getY() - radius - 8);
-
-				if (isNewest)
-				{
-					Color badgeColor = new Color(255, 215, 0, alpha);
-					OverlayUtil.renderTextLocation(graphics, textPoint, timerText, badgeColor);
-				}
-				else
-				{
-					OverlayUtil.renderTextLocation(graphics, textPoint, timerText, strokeColor);
-				}
+			// Cheap tile-distance check before any perspective projection
+			if (playerTile != WorldTiles.NO_TILE && WorldTiles.distance(spot.tile, playerTile) > settings.drawDistance)
+			{
+				frameStats.culled++;
+				continue;
 			}
-		}
-		else if (isNewest)
-		{
-			// Timer is off but badge is on — show just the star
-			String badge = "\u2605";
-			Color badgeColor = new Color(255, 215, 0, alpha);
-			Point badgePoint = new Point(canvasPoint.getX(), canvasPoint.getY() - radius - 8);
-			OverlayUtil.renderTextLocation(graphics, badgePoint, badge, badgeColor);
-		}
 
-		// Resolve which fish to display based on ignore filter
-		FishingSpotData.Fish displayFish = spotData.getDisplayFish(ignoredFish);
+			NPC npc = spot.npc;
+			Point canvasPoint = npc.getCanvasTextLocation(graphics, "", npc.getLogicalHeight() + 40);
+			if (canvasPoint == null)
+			{
+				frameStats.culled++;
+				continue;
+			}
 
-		// Spot name (shows highest-level unfiltered fish name)
-		if (config.showSpotName())
-		{
-			String displayName = (displayFish != null) ? displayFish.getName() : spotData.getName();
-			Point namePoint = new Point(canvasPoint.getX(), canvasPoint.getY() + radius + 16);
-			OverlayUtil.renderTextLocation(graphics, namePoint, displayName, strokeColor);
-		}
+			int x = canvasPoint.getX();
+			int y = canvasPoint.getY();
+			if (x < minX || x > maxX || y < minY || y > maxY)
+			{
+				frameStats.culled++;
+				continue;
+			}
 
-		// Fish icon (hidden if all fish at this spot are ignored)
-		if (config.showFishIcon() && displayFish != null)
-		{
-			BufferedImage icon = itemManager.getImage(displayFish.getItemId());
-			if (icon != null)
+			visibleSpots[count] = spot;
+			screenX[count] = x;
+			screenY[count] = y;
+			iconY[count] = NO_ICON;
+			if (spot.iconFish != null)
 			{
-				Point iconPoint = npc.getCanvasImageLocation(icon, npc.getLogicalHeight() / 2);
+				Point iconPoint = npc.getCanvasTextLocation(graphics, "", npc.getLogicalHeight() / 2);
 				if (iconPoint != null)
 				{
-					OverlayUtil.renderImageLocation(graphics, iconPoint, icon);
+					iconX[count] = iconPoint.getX();
+					iconY[count] = iconPoint.getY();
 				}
 			}
+			count++;
 		}
+		return count;
 	}
 
-	private void renderCircleHighlight(Graphics2D graphics, NPC npc, Color strokeColor,
-		int alpha, Color baseColor, double progress)
-	{
-		Point canvasPoint = npc.getCanvasTextLocation(graphics, "", npc.getLogicalHeight() + 40);
-		if (canvasPoint == null)
-		{
-			return;
-		}
-
-		int radius = config.circleRadius();
-		double x = canvasPoint.getX() - radius;
-		double y = canvasPoint.getY() - radius;
-		double diameter = radius * 2;
-
-		// Remaining sweep: full circle at 0% progress, empty at 100%
-		double sweepAngle = 360.0 * (1.0 - progress);
-
-		// Draw filled pie slice showing remaining time
-		if (config.fillCircle() && sweepAngle > 0)
-		{
-			int fillAlpha = Math.max(0, alpha / 3);
-			Color fillColor = new Color(baseColor.getRed(), baseColor.getGreen(),
-				baseColor.getBlue(), fillAlpha);
-			Arc2D.Double pieSlice = new Arc2D.Double(x, y, diameter, diameter,
-				90, sweepAngle, Arc2D.PIE);
-			graphics.setColor(fillColor);
-			graphics.fill(pieSlice);
-		}
-
-		// Draw the full circle outline as a reference ring
-		Ellipse2D.Double outline = new Ellipse2D.Double(x, y, diameter, diameter);
-		graphics.setColor(strokeColor);
-		graphics.setStroke(new BasicStroke(config.strokeWidth()));
-		graphics.draw(outline);
-
-		// Draw the arc edge on top of the outline for emphasis
-		if (sweepAngle > 0 && sweepAngle < 360)
-		{
-			Arc2D.Double arc = new Arc2D.Double(x, y, diameter, diameter,
-				90, sweepAngle, Arc2D.PIE);
-			graphics.setColor(strokeColor);
-			graphics.draw(arc);
-		}
-	}
-
-	private static Set<String> parseIgnoredFish(String configValue)
-	{
-		if (configValue == null || configValue.trim().isEmpty())
-		{
-			return Collections.emptySet();
-		}
-
-		return Arrays.stream(configValue.split(","))
-			.map(String::trim)
-			.filter(s -> !s.isEmpty())
-			.map(String::toLowerCase)
-			.collect(Collectors.toSet());
-	}
-
-	static Color blendColors(Color from, Color to, double progress)
+	/**
+	 * Same output as {@link net.runelite.client.ui.overlay.OverlayUtil#renderTextLocation}, which
+	 * forces the text color opaque, but with a color made opaque up front and no intermediate
+	 * {@link Point}.
+	 */
+	private void renderText(Graphics2D graphics, String text, int x, int y, Color color)
 	{
-		float t = (float) Math.max(0.0, Math.min(1.0, progress));
-		int r = Math.round(from.getRed() + t * (to.getRed() - from.getRed()));
-		int g = Math.round(from.getGreen() + t * (to.getGreen() - from.getGreen()));
-		int b = Math.round(from.getBlue() + t * (to.getBlue() - from.getBlue()));
-		return new Color(r, g, b);
+		frameStats.labels++;
+		graphics.setColor(Color.BLACK);
+		graphics.drawString(text, x + 1, y + 1);
+		graphics.setColor(color);
+		graphics.drawString(text, x, y);
 	}
 }
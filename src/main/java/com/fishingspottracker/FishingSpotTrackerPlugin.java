@@ -25,24 +25,39 @@
 package com.fishingspottracker;
 
 import com.google.inject.Provides;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Predicate;
 import javax.inject.Inject;
+import javax.inject.Named;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Actor;
 import net.runelite.api.Client;
+import net.runelite.api.Constants;
 import net.runelite.api.GameState;
 import net.runelite.api.NPC;
 import net.runelite.api.Player;
-import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.AnimationChanged;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
+import net.runelite.api.events.InteractingChanged;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
 import net.runelite.client.Notifier;
+import net.runelite.client.RuneLite;
+import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.game.ItemManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -53,7 +68,7 @@ import net.runelite.client.ui.overlay.OverlayManager;
 	description = "Displays a pie-timer circle over fishing spots that depletes and shifts color as the spot ages",
 	tags = {"fishing", "overlay", "timer", "skilling", "spots"}
 )
-public class FishingSpotTrackerPlugin extends Plugin
+public class FishingSpotTrackerPlugin extends Plugin implements SpotTrackerEngine
 {
 	/**
 	 * How long (in ticks) to remember a spot after it despawns (e.g. walked out of range).
@@ -62,19 +77,47 @@ public class FishingSpotTrackerPlugin extends Plugin
 	private static final int LOCATION_CACHE_EXPIRY_TICKS = 1500;
 
 	/**
-	 * Set of animation IDs that indicate the player is actively fishing.
+	 * Spots first seen within this many ticks of login or startup were already there, so
+	 * they may take a timer saved in an earlier session.
 	 */
-	private static final java.util.Set<Integer> FISHING_ANIMATIONS = java.util.Set.of(
-		621, 622, 623, 619, 620, 624, 625, 626, 627, 628, 629,
-		632, 633, 5108, 6703, 6704, 6706, 6707, 6708, 6709, 6710,
-		7401, 8336, 9350, 9353, 9354, 9355, 9356, 9357, 9358, 9359,
-		9360, 9361, 9362
-	);
+	private static final int RESTORE_WINDOW_TICKS = 5;
+
+	/**
+	 * Where saved timers and journals are kept.
+	 */
+	private static final File DATA_DIR = new File(RuneLite.RUNELITE_DIR, "fishing-spot-tracker");
+
+	/**
+	 * Spots within this many tiles of the player are well inside NPC view range, so their
+	 * spawns and despawns are real moves rather than the player walking in or out of range.
+	 */
+	private static final int OBSERVATION_RADIUS = 12;
+
+	/**
+	 * How far (in tiles) from the player to look for the nearest fresh spot.
+	 */
+	private static final int NEAREST_FRESH_MAX_DISTANCE = 20;
+
+	/**
+	 * Spots below this fraction of their lifetime count as fresh for the nearest-spot highlight.
+	 */
+	private static final double FRESH_PROGRESS_THRESHOLD = 0.5;
+
+	/**
+	 * Lifetimes held back while the saved ones load. Loading takes moments, so this is plenty.
+	 */
+	private static final int MAX_PENDING_LIFETIMES = 64;
 
 	@Getter
 	@Inject
 	private Client client;
 
+	@Inject
+	private ClientThread clientThread;
+
+	@Inject
+	private ScheduledExecutorService executor;
+
 	@Inject
 	private FishingSpotTrackerConfig config;
 
@@ -87,37 +130,224 @@ public class FishingSpotTrackerPlugin extends Plugin
 	@Inject
 	private FishingSpotMinimapOverlay minimapOverlay;
 
+	@Inject
+	private FishingSpotDebugOverlay debugOverlay;
+
+	@Inject
+	@Named("developerMode")
+	private boolean developerMode;
+
 	@Inject
 	private Notifier notifier;
 
+	@Inject
+	private ItemManager itemManager;
+
 	/**
-	 * Maps each tracked fishing spot NPC to its tracking data.
+	 * Every tracked fishing spot NPC with its spawn tick and tile.
 	 */
 	@Getter
-	private final Map<NPC, TrackedSpot> trackedSpots = new HashMap<>();
+	private final TrackedSpotStore trackedSpots = new TrackedSpotStore();
+
+	/**
+	 * Tracked spots indexed by tile, for same-tile deduplication and nearest-spot queries.
+	 */
+	private final SpotSpatialIndex spatialIndex = new SpotSpatialIndex();
+
+	private final NPC[] nearestFreshResult = new NPC[1];
+	private final Predicate<NPC> freshSpotFilter = this::isFreshSpot;
 
 	/**
 	 * Cache of recently-despawned spots keyed by world location + NPC ID.
 	 * Used to restore timers when walking back into range of a spot.
 	 */
-	private final Map<LocationKey, CachedSpot> locationCache = new HashMap<>();
+	private final LocationCache locationCache = new LocationCache(64);
+
+	/**
+	 * Spot timers saved across sessions, keyed by world and tile.
+	 */
+	private final SpotTimerStore timerStore = new SpotTimerStore(new File(DATA_DIR, "timers.bin"));
+
+	/**
+	 * Spot lifetimes learned from observed moves, loaded in the background on startup.
+	 */
+	private final SpotLifetimes lifetimes = new SpotLifetimes();
+	private final File lifetimesFile = new File(DATA_DIR, "lifetimes.bin");
+	private boolean lifetimesLoaded;
+	private boolean lifetimesChanged;
+
+	/**
+	 * Lifetimes observed before the saved ones finished loading, replayed on top of them so
+	 * the load keeps both.
+	 */
+	private final int[] pendingLifetimeTypes = new int[MAX_PENDING_LIFETIMES];
+	private final int[] pendingLifetimeTicks = new int[MAX_PENDING_LIFETIMES];
+	private int pendingLifetimes;
+
+	/**
+	 * Move chance tables built from {@link #lifetimes}.
+	 */
+	private final SpotSurvival survival = new SpotSurvival(lifetimes);
+
+	/**
+	 * Optional journal of spot events, enabled by {@link FishingSpotTrackerConfig#recordSpotEvents()}.
+	 */
+	private final SpotEventJournal journal = new SpotEventJournal(new File(DATA_DIR, "spot-events.bin"));
+
+	/**
+	 * Optional capture of game inputs for replay, enabled by {@link FishingSpotTrackerConfig#recordSessions()}.
+	 */
+	private final SessionRecorder recorder = new SessionRecorder(new File(DATA_DIR, "captures"));
+
+	/**
+	 * World the tracked spots belong to, and the tick tracking started on it.
+	 */
+	private int currentWorld;
+	private int sessionStartTick;
+	private boolean awaitingLogin;
+
+	/**
+	 * Whether saved timers have been applied to the spots seen at session start.
+	 */
+	private boolean persistedTimersApplied;
+
+	/**
+	 * Whether the player is fishing and at which spot, for idle detection and the active highlight.
+	 */
+	private final FishingActivity activity = new FishingActivity();
 
 	/**
-	 * Whether the player was fishing on the previous tick (for idle detection).
+	 * Non-static tracked spots ordered by spawn tick. Only maintained while the newest spot
+	 * badge is shown.
 	 */
-	private boolean wasFishing;
+	private final NewestSpotIndex newestSpotIndex = new NewestSpotIndex();
+
+	/**
+	 * Whether {@link #newestSpotIndex} is being maintained. Client thread only.
+	 */
+	private boolean newestSpotTracking;
 
 	/**
 	 * Cached newest spot — sticky to avoid bouncing between tied spots.
 	 */
 	private NPC cachedNewestSpot;
 
+	/**
+	 * Per-spot draw state for both overlays, rebuilt once per game tick.
+	 */
+	@Getter
+	private volatile List<SpotRenderInfo> renderModel = Collections.emptyList();
+
+	/**
+	 * Bumped each time {@link #renderModel} is rebuilt, since the model objects are reused.
+	 */
+	@Getter
+	private volatile int renderModelVersion;
+
+	/**
+	 * The two models {@link #updateRenderModel} fills in turn, and which one it filled last.
+	 */
+	private final SpotRenderModel[] renderModels = {new SpotRenderModel(), new SpotRenderModel()};
+	private int lastRenderModel;
+
+	/**
+	 * Packed tile of the local player when the render model was built, or
+	 * {@link WorldTiles#NO_TILE} if unknown. Used by the overlay for distance culling.
+	 */
+	@Getter
+	private volatile int renderPlayerTile = WorldTiles.NO_TILE;
+
+	private final TimerLabelCache timerLabels = new TimerLabelCache();
+
+	/**
+	 * Fish icons for the scene overlay, requested as spot types are first seen.
+	 */
+	@Getter
+	private final FishIconAtlas iconAtlas = new FishIconAtlas();
+
+	/**
+	 * Display config snapshot, rebuilt only when the config group changes.
+	 */
+	@Getter
+	private volatile RenderSettings renderSettings;
+
+	/**
+	 * Per-phase tick timings, only collected while the debug overlay is shown.
+	 */
+	private final TickProfiler tickProfiler = new TickProfiler();
+
+	/**
+	 * Latest timings for the debug overlay, or null while profiling is off.
+	 */
+	@Getter
+	private volatile TickProfile tickProfile;
+
+	/**
+	 * Rolling frame costs of the scene and minimap overlays, for the debug overlay.
+	 */
+	@Getter
+	private final OverlayFrameStats sceneFrameStats = new OverlayFrameStats();
+	@Getter
+	private final OverlayFrameStats minimapFrameStats = new OverlayFrameStats();
+
 	@Override
 	protected void startUp()
 	{
+		renderSettings = RenderSettings.from(config);
+		newestSpotTracking = renderSettings.showNewestBadge;
 		overlayManager.add(overlay);
 		overlayManager.add(minimapOverlay);
-		scanExistingSpots();
+		if (developerMode)
+		{
+			overlayManager.add(debugOverlay);
+			tickProfiler.setEnabled(renderSettings.showDebugOverlay);
+		}
+		executor.execute(timerStore::load);
+		executor.execute(() ->
+		{
+			SpotLifetimes loaded = SpotLifetimes.read(lifetimesFile);
+			clientThread.invoke(() ->
+			{
+				FishingSpotData[] types = FishingSpotData.values();
+				for (int i = 0; i < pendingLifetimes; i++)
+				{
+					loaded.observe(types[pendingLifetimeTypes[i]], pendingLifetimeTicks[i]);
+				}
+				pendingLifetimes = 0;
+				lifetimes.restoreFrom(loaded);
+				survival.invalidateAll();
+				lifetimesLoaded = true;
+			});
+		});
+
+		// The recording rings, the tracked spots and the icon atlas are client thread only,
+		// and startUp runs off it
+		clientThread.invoke(() ->
+		{
+			updateRecording();
+			awaitingLogin = client.getGameState() != GameState.LOGGED_IN;
+			if (!awaitingLogin)
+			{
+				startSession();
+			}
+			scanExistingSpots();
+			prefetchIcons();
+			syncActivity();
+		});
+	}
+
+	/**
+	 * Picks up what the player is already doing when the plugin starts, since no events
+	 * arrive until it changes.
+	 */
+	private void syncActivity()
+	{
+		Player localPlayer = client.getLocalPlayer();
+		if (localPlayer != null)
+		{
+			activity.animationChanged(localPlayer.getAnimation());
+			activity.interactingChanged(localPlayer.getInteracting());
+		}
 	}
 
 	@Override
@@ -125,10 +355,26 @@ public class FishingSpotTrackerPlugin extends Plugin
 	{
 		overlayManager.remove(overlay);
 		overlayManager.remove(minimapOverlay);
-		trackedSpots.clear();
-		locationCache.clear();
-		wasFishing = false;
-		cachedNewestSpot = null;
+		overlayManager.remove(debugOverlay);
+		tickProfiler.setEnabled(false);
+		tickProfile = null;
+
+		// Saving reads state the client thread updates every tick, so it happens there,
+		// before that state is cleared
+		clientThread.invoke(() ->
+		{
+			saveTimers();
+			saveLifetimes();
+			journal.stop();
+			recorder.stop();
+			trackedSpots.clear();
+			spatialIndex.clear();
+			locationCache.clear();
+			newestSpotIndex.clear();
+			activity.clear();
+			cachedNewestSpot = null;
+			clearRenderModel();
+		});
 	}
 
 	/**
@@ -145,10 +391,18 @@ public class FishingSpotTrackerPlugin extends Plugin
 		int currentTick = client.getTickCount();
 		for (NPC npc : client.getNpcs())
 		{
-			if (npc != null && FishingSpotData.findSpot(npc.getId()) != null)
+			FishingSpotData spotData = npc != null ? FishingSpotData.findSpot(npc.getId()) : null;
+			if (spotData != null)
 			{
-				WorldPoint wp = npc.getWorldLocation();
-				trackedSpots.putIfAbsent(npc, new TrackedSpot(currentTick, wp));
+				int tile = getTile(npc);
+				if (trackedSpots.indexOf(npc) < 0 && tile != WorldTiles.NO_TILE)
+				{
+					trackedSpots.put(npc, currentTick, tile, false);
+					spatialIndex.put(npc, tile);
+					indexNewestSpot(npc, spotData, currentTick);
+					journal.record(SpotEventJournal.SPAWN, currentTick, currentWorld, npc.getId(), tile, spotData);
+					recorder.record(SessionRecorder.SPAWN, currentTick, npc.getIndex(), npc.getId(), tile);
+				}
 			}
 		}
 	}
@@ -157,13 +411,137 @@ public class FishingSpotTrackerPlugin extends Plugin
 	public void onGameStateChanged(GameStateChanged event)
 	{
 		GameState state = event.getGameState();
+		recorder.record(SessionRecorder.GAME_STATE, client.getTickCount(), state.getState(), client.getWorld(), 0);
+		if (state == GameState.LOGIN_SCREEN || state == GameState.HOPPING)
+		{
+			saveTimers();
+			saveLifetimes();
+		}
+		gameStateChanged(state);
+	}
+
+	@Override
+	public void gameStateChanged(GameState state)
+	{
 		if (state == GameState.LOGIN_SCREEN || state == GameState.HOPPING)
 		{
+			awaitingLogin = true;
 			trackedSpots.clear();
+			spatialIndex.clear();
 			locationCache.clear();
-			wasFishing = false;
+			newestSpotIndex.clear();
+			activity.clear();
 			cachedNewestSpot = null;
+			clearRenderModel();
 		}
+		else if (state == GameState.LOGGED_IN && awaitingLogin)
+		{
+			awaitingLogin = false;
+			startSession();
+		}
+	}
+
+	private void startSession()
+	{
+		currentWorld = client.getWorld();
+		sessionStartTick = client.getTickCount();
+		persistedTimersApplied = false;
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged event)
+	{
+		if (!FishingSpotTrackerConfig.GROUP.equals(event.getGroup()))
+		{
+			return;
+		}
+
+		renderSettings = RenderSettings.from(config);
+		clientThread.invoke(this::applyRenderSettings);
+		if ("recordSpotEvents".equals(event.getKey()) || "recordSessions".equals(event.getKey()))
+		{
+			clientThread.invoke(this::updateRecording);
+		}
+	}
+
+	void updateRecording()
+	{
+		if (config.recordSpotEvents())
+		{
+			journal.start(executor);
+		}
+		else
+		{
+			journal.stop();
+		}
+
+		if (config.recordSessions() && !recorder.isRunning())
+		{
+			recorder.start(executor);
+			recordSessionStart();
+		}
+		else if (!config.recordSessions())
+		{
+			recorder.stop();
+		}
+	}
+
+	/**
+	 * Opens a capture with the current game state and every tracked spot, so replay can
+	 * pick up mid-session.
+	 */
+	private void recordSessionStart()
+	{
+		int currentTick = client.getTickCount();
+		recorder.record(SessionRecorder.GAME_STATE, currentTick, client.getGameState().getState(), client.getWorld(), 0);
+		for (int i = 0; i < trackedSpots.size(); i++)
+		{
+			NPC npc = trackedSpots.npc(i);
+			recorder.record(SessionRecorder.SPAWN, currentTick, npc.getIndex(), npc.getId(), trackedSpots.tile(i));
+		}
+	}
+
+	/**
+	 * Requests fish icons for every tracked spot type while icons are shown.
+	 */
+	private void prefetchIcons()
+	{
+		if (!renderSettings.showFishIcon)
+		{
+			return;
+		}
+
+		for (int i = 0; i < trackedSpots.size(); i++)
+		{
+			FishingSpotData spotData = FishingSpotData.findSpot(trackedSpots.npc(i).getId());
+			if (spotData != null)
+			{
+				iconAtlas.prefetch(spotData, itemManager);
+			}
+		}
+	}
+
+	/**
+	 * Brings client-thread state in line with a new settings snapshot.
+	 */
+	private void applyRenderSettings()
+	{
+		boolean tracking = renderSettings.showNewestBadge;
+		if (tracking != newestSpotTracking)
+		{
+			newestSpotTracking = tracking;
+			rebuildNewestSpotIndex();
+		}
+
+		prefetchIcons();
+
+		boolean profiling = developerMode && renderSettings.showDebugOverlay;
+		tickProfiler.setEnabled(profiling);
+		if (!profiling)
+		{
+			tickProfile = null;
+		}
+		updateRenderModel();
 	}
 
 	@Subscribe
@@ -176,269 +554,670 @@ public class FishingSpotTrackerPlugin extends Plugin
 			return;
 		}
 
-		WorldPoint wp = npc.getWorldLocation();
-		LocationKey key = new LocationKey(wp, npc.getId());
-		int currentTick = client.getTickCount();
+		if (recorder.isRunning())
+		{
+			recorder.record(SessionRecorder.SPAWN, client.getTickCount(), npc.getIndex(), npc.getId(), getTile(npc));
+		}
 
-		CachedSpot cached = locationCache.remove(key);
+		if (renderSettings.showFishIcon)
+		{
+			iconAtlas.prefetch(spotData, itemManager);
+		}
+		npcSpawned(npc, spotData);
+	}
 
-		if (cached != null)
+	@Override
+	public void npcSpawned(NPC npc)
+	{
+		FishingSpotData spotData = FishingSpotData.findSpot(npc.getId());
+		if (spotData != null)
 		{
-			int totalElapsed = currentTick - cached.spawnTick;
-			int maxTicks = spotData.getMaxTicks();
+			npcSpawned(npc, spotData);
+		}
+	}
+
+	private void npcSpawned(NPC npc, FishingSpotData spotData)
+	{
+		int tile = getTile(npc);
+		if (tile == WorldTiles.NO_TILE)
+		{
+			return;
+		}
+
+		int currentTick = client.getTickCount();
+
+		int cachedSpawnTick = locationCache.remove(tile, npc.getId());
+		spatialIndex.put(npc, tile);
 
-			if (totalElapsed <= maxTicks)
+		if (cachedSpawnTick != LocationCache.NO_SPAWN_TICK)
+		{
+			int totalElapsed = currentTick - cachedSpawnTick;
+			if (totalElapsed <= lifetimes.expiryTicks(spotData))
 			{
-				trackedSpots.put(npc, new TrackedSpot(cached.spawnTick, wp));
+				trackedSpots.put(npc, cachedSpawnTick, tile, false);
+				indexNewestSpot(npc, spotData, cachedSpawnTick);
+				journal.record(SpotEventJournal.SPAWN, currentTick, currentWorld, npc.getId(), tile, spotData);
 				return;
 			}
 		}
 
-		trackedSpots.put(npc, new TrackedSpot(currentTick, wp));
+		boolean sessionStart = isSessionStart(currentTick);
+		int spawnTick = sessionStart
+			? getPersistedSpawnTick(spotData, npc.getId(), tile, currentTick)
+			: currentTick;
+
+		// A spawn close to the player is the spot arriving, not the player walking into range
+		boolean arrivalSeen = !sessionStart && isNearPlayer(tile);
+		trackedSpots.put(npc, spawnTick, tile, arrivalSeen);
+		indexNewestSpot(npc, spotData, spawnTick);
+		journal.record(SpotEventJournal.SPAWN, currentTick, currentWorld, npc.getId(), tile, spotData);
 	}
 
 	@Subscribe
 	public void onNpcDespawned(NpcDespawned event)
 	{
 		NPC npc = event.getNpc();
-		TrackedSpot tracked = trackedSpots.remove(npc);
-		if (tracked == null)
+		if (recorder.isRunning() && trackedSpots.indexOf(npc) >= 0)
+		{
+			recorder.record(SessionRecorder.DESPAWN, client.getTickCount(), npc.getIndex(), npc.getId(), getTile(npc));
+		}
+		npcDespawned(npc);
+	}
+
+	@Override
+	public void npcDespawned(NPC npc)
+	{
+		int pos = trackedSpots.indexOf(npc);
+		if (pos < 0)
 		{
 			return;
 		}
 
-		LocationKey key = new LocationKey(tracked.worldPoint, npc.getId());
-		locationCache.put(key, new CachedSpot(tracked.spawnTick, client.getTickCount()));
+		int spawnTick = trackedSpots.spawnTick(pos);
+		int tile = trackedSpots.tile(pos);
+		boolean arrivalSeen = trackedSpots.arrivalSeen(pos);
+		trackedSpots.removeAt(pos);
+		spatialIndex.remove(npc);
+		newestSpotIndex.remove(npc);
+		activity.npcDespawned(npc);
+
+		int currentTick = client.getTickCount();
+		FishingSpotData spotData = FishingSpotData.findSpot(npc.getId());
+		if (arrivalSeen && spotData != null && isNearPlayer(tile))
+		{
+			observeLifetime(spotData, currentTick - spawnTick);
+		}
+
+		locationCache.put(tile, npc.getId(), spawnTick, currentTick);
+		journal.record(SpotEventJournal.DESPAWN, currentTick, currentWorld, npc.getId(), tile, spotData);
 	}
 
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
+		if (recorder.isRunning())
+		{
+			recordTick();
+		}
+
+		gameTick();
+
+		if (activity.pollStopped() && config.idleNotification())
+		{
+			notifier.notify("You have stopped fishing!");
+		}
+	}
+
+	@Subscribe
+	public void onAnimationChanged(AnimationChanged event)
+	{
+		Actor actor = event.getActor();
+		if (actor != client.getLocalPlayer())
+		{
+			return;
+		}
+
+		int animation = actor.getAnimation();
+		recorder.record(SessionRecorder.ANIMATION, client.getTickCount(), animation, 0, 0);
+
+		playerAnimationChanged(animation);
+	}
+
+	@Subscribe
+	public void onInteractingChanged(InteractingChanged event)
+	{
+		if (event.getSource() != client.getLocalPlayer())
+		{
+			return;
+		}
+
+		Actor target = event.getTarget();
+		if (recorder.isRunning())
+		{
+			int targetIndex = target instanceof NPC ? ((NPC) target).getIndex() : -1;
+			recorder.record(SessionRecorder.INTERACTING, client.getTickCount(), targetIndex, 0, 0);
+		}
+		playerInteractingChanged(target);
+	}
+
+	@Override
+	public void playerAnimationChanged(int animation)
+	{
+		activity.animationChanged(animation);
+	}
+
+	@Override
+	public void playerInteractingChanged(Actor target)
+	{
+		activity.interactingChanged(target);
+	}
+
+	/**
+	 * Captures what {@link #gameTick()} reads: each tracked spot's position, then the player's tile.
+	 */
+	private void recordTick()
+	{
+		int currentTick = client.getTickCount();
+		for (int i = 0; i < trackedSpots.size(); i++)
+		{
+			NPC npc = trackedSpots.npc(i);
+			recorder.record(SessionRecorder.POSITION, currentTick, npc.getIndex(), npc.getId(), getTile(npc));
+		}
+
+		recorder.record(SessionRecorder.TICK, currentTick, getPlayerTile(), 0, 0);
+	}
+
+	@Override
+	public void gameTick()
+	{
+		long tickStart = tickProfiler.start();
 		int currentTick = client.getTickCount();
 
 		// Detect NPCs that have teleported to a new tile (spot "moved")
 		// or exceeded their max tick lifetime (reset timer)
-		for (Map.Entry<NPC, TrackedSpot> entry : trackedSpots.entrySet())
+		WorldView view = client.getTopLevelWorldView();
+		for (int i = 0; i < trackedSpots.size(); i++)
 		{
-			NPC npc = entry.getKey();
-			TrackedSpot tracked = entry.getValue();
+			NPC npc = trackedSpots.npc(i);
+			int npcId = npc.getId();
+			if (npcId == -1)
+			{
+				continue;
+			}
 
-			if (npc.getId() == -1)
+			LocalPoint localPoint = npc.getLocalLocation();
+			if (localPoint == null)
 			{
 				continue;
 			}
 
-			WorldPoint currentPos = npc.getWorldLocation();
-			if (!currentPos.equals(tracked.worldPoint))
+			int currentTile = WorldTiles.pack(view, localPoint);
+			if (currentTile != trackedSpots.tile(i))
 			{
-				entry.setValue(new TrackedSpot(currentTick, currentPos));
+				FishingSpotData spotData = FishingSpotData.findSpot(npcId);
+				if (trackedSpots.arrivalSeen(i) && spotData != null)
+				{
+					observeLifetime(spotData, currentTick - trackedSpots.spawnTick(i));
+				}
+
+				// Seen arriving on the new tile, so this lifetime can be measured too
+				trackedSpots.reset(i, currentTick, currentTile, true);
+				spatialIndex.put(npc, currentTile);
+				indexNewestSpot(npc, spotData, currentTick);
+				journal.record(SpotEventJournal.MOVE, currentTick, currentWorld, npcId, currentTile, spotData);
 			}
 			else
 			{
-				FishingSpotData spotData = FishingSpotData.findSpot(npc.getId());
+				FishingSpotData spotData = FishingSpotData.findSpot(npcId);
 				if (spotData != null && !spotData.isUnpredictable()
-					&& currentTick - tracked.spawnTick > spotData.getMaxTicks())
+					&& currentTick - trackedSpots.spawnTick(i) > lifetimes.expiryTicks(spotData))
 				{
-					entry.setValue(new TrackedSpot(currentTick, currentPos));
+					trackedSpots.reset(i, currentTick, currentTile, false);
+					indexNewestSpot(npc, spotData, currentTick);
+					journal.record(SpotEventJournal.RESET, currentTick, currentWorld, npcId, currentTile, spotData);
 				}
 			}
 		}
 
-		// Clean up invalid NPCs
-		trackedSpots.keySet().removeIf(npc -> npc.getId() == -1);
+		long lap = tickProfiler.lap(TickPhase.MOVE_SCAN, tickStart);
+
+		// Clean up invalid NPCs. Walk backwards, as removal moves the last spot into the gap.
+		for (int i = trackedSpots.size() - 1; i >= 0; i--)
+		{
+			NPC npc = trackedSpots.npc(i);
+			if (npc.getId() == -1)
+			{
+				journal.record(SpotEventJournal.DESPAWN, currentTick, currentWorld, -1, trackedSpots.tile(i), null);
+				trackedSpots.removeAt(i);
+				spatialIndex.remove(npc);
+				newestSpotIndex.remove(npc);
+				activity.npcDespawned(npc);
+			}
+		}
+
+		// Saved timers load in the background; apply them once they arrive
+		if (!persistedTimersApplied && timerStore.peek() != null)
+		{
+			persistedTimersApplied = true;
+			applyPersistedTimers(currentTick);
+		}
+
+		lap = tickProfiler.lap(TickPhase.CLEANUP, lap);
 
 		// Expire old entries from the location cache
-		locationCache.entrySet().removeIf(e ->
-			currentTick - e.getValue().despawnTick > LOCATION_CACHE_EXPIRY_TICKS);
+		locationCache.expire(currentTick - LOCATION_CACHE_EXPIRY_TICKS);
+		lap = tickProfiler.lap(TickPhase.CACHE_EXPIRY, lap);
 
 		// Update newest spot (sticky)
 		updateNewestSpot();
+		lap = tickProfiler.lap(TickPhase.NEWEST_SPOT, lap);
+
+		updateRenderModel();
+		tickProfiler.lap(TickPhase.RENDER_MODEL, lap);
 
-		// Idle detection
-		updateIdleState();
+		if (tickProfiler.isEnabled())
+		{
+			tickProfiler.lap(TickPhase.TOTAL, tickStart);
+			tickProfile = tickProfiler.snapshot(trackedSpots.size(), locationCache.size());
+		}
 	}
 
-	private void updateIdleState()
+	private boolean isSessionStart(int tick)
 	{
-		Player localPlayer = client.getLocalPlayer();
-		if (localPlayer == null)
+		return Math.abs(tick - sessionStartTick) <= RESTORE_WINDOW_TICKS;
+	}
+
+	/**
+	 * Returns the spawn tick implied by a saved timer for the spot, or {@code currentTick}
+	 * if there is none or it has outlived the spot's lifetime.
+	 */
+	private int getPersistedSpawnTick(FishingSpotData spotData, int npcId, int tile, int currentTick)
+	{
+		SpotTimerSnapshot persisted = timerStore.peek();
+		if (persisted == null)
 		{
-			wasFishing = false;
-			return;
+			return currentTick;
 		}
 
-		boolean isFishing = FISHING_ANIMATIONS.contains(localPlayer.getAnimation());
-
-		if (wasFishing && !isFishing && config.idleNotification())
+		long spawnMillis = persisted.spawnMillis(currentWorld, tile, npcId);
+		if (spawnMillis == SpotTimerSnapshot.NO_TIME)
 		{
-			notifier.notify("You have stopped fishing!");
+			return currentTick;
 		}
 
-		wasFishing = isFishing;
+		long elapsed = (System.currentTimeMillis() - spawnMillis) / Constants.GAME_TICK_LENGTH;
+		return elapsed >= 0 && elapsed <= lifetimes.expiryTicks(spotData) ? currentTick - (int) elapsed : currentTick;
 	}
 
 	/**
-	 * Returns a value between 0.0 and 1.0 representing how far through
-	 * its estimated lifetime the spot is. 0.0 = just appeared, 1.0 = at max expected duration.
+	 * Restores saved timers for spots that were first seen at session start, before the
+	 * saved timers finished loading.
 	 */
-	public double getSpotProgress(NPC npc)
+	private void applyPersistedTimers(int currentTick)
 	{
-		TrackedSpot tracked = trackedSpots.get(npc);
-		if (tracked == null)
+		for (int i = 0; i < trackedSpots.size(); i++)
 		{
-			return 0.0;
-		}
+			int spawnTick = trackedSpots.spawnTick(i);
+			if (!isSessionStart(spawnTick))
+			{
+				continue;
+			}
 
-		int elapsed = client.getTickCount() - tracked.spawnTick;
-		FishingSpotData spotData = FishingSpotData.findSpot(npc.getId());
-		int maxTicks = (spotData != null) ? spotData.getMaxTicks() : FishingSpotData.DEFAULT_MAX_TICKS;
+			NPC npc = trackedSpots.npc(i);
+			FishingSpotData spotData = FishingSpotData.findSpot(npc.getId());
+			if (spotData == null)
+			{
+				continue;
+			}
 
-		return Math.min(1.0, (double) elapsed / maxTicks);
+			int tile = trackedSpots.tile(i);
+			int restored = getPersistedSpawnTick(spotData, npc.getId(), tile, currentTick);
+			if (restored < spawnTick)
+			{
+				trackedSpots.reset(i, restored, tile, false);
+				indexNewestSpot(npc, spotData, restored);
+			}
+		}
 	}
 
 	/**
-	 * Gets the spawn tick for a tracked NPC (used by the overlay for timer text).
+	 * Hands the current spot timers to the executor to be merged into the saved ones.
 	 */
-	public Integer getSpawnTick(NPC npc)
+	private void saveTimers()
 	{
-		TrackedSpot tracked = trackedSpots.get(npc);
-		return tracked != null ? tracked.spawnTick : null;
+		if (currentWorld <= 0 || (trackedSpots.isEmpty() && locationCache.size() == 0))
+		{
+			return;
+		}
+
+		int world = currentWorld;
+		int currentTick = client.getTickCount();
+		long nowMillis = System.currentTimeMillis();
+		SpotTimerSnapshot.Builder observed = new SpotTimerSnapshot.Builder();
+		locationCache.forEach((tile, npcId, spawnTick, despawnTick) ->
+			observed.add(world, tile, npcId, nowMillis - (long) (currentTick - spawnTick) * Constants.GAME_TICK_LENGTH));
+		for (int i = 0; i < trackedSpots.size(); i++)
+		{
+			int npcId = trackedSpots.npc(i).getId();
+			if (npcId != -1)
+			{
+				long age = (long) (currentTick - trackedSpots.spawnTick(i)) * Constants.GAME_TICK_LENGTH;
+				observed.add(world, trackedSpots.tile(i), npcId, nowMillis - age);
+			}
+		}
+
+		executor.execute(() -> timerStore.save(observed, nowMillis));
 	}
 
 	/**
-	 * Returns the cached newest spot. Updated each game tick to avoid
-	 * bouncing between spots that share the same spawn tick.
+	 * Writes learned lifetimes in the background if any were observed since the last save.
+	 * Skipped until the saved ones have loaded, so they are never overwritten.
 	 */
-	public NPC getNewestSpot()
+	private void saveLifetimes()
 	{
-		return cachedNewestSpot;
+		if (!lifetimesLoaded || !lifetimesChanged)
+		{
+			return;
+		}
+
+		lifetimesChanged = false;
+		SpotLifetimes snapshot = lifetimes.copy();
+		executor.execute(() ->
+		{
+			try
+			{
+				snapshot.write(lifetimesFile);
+			}
+			catch (IOException e)
+			{
+				log.warn("Unable to save fishing spot lifetimes to {}", lifetimesFile, e);
+			}
+		});
 	}
 
 	/**
-	 * Recomputes the newest spot. Sticky: keeps the current pick unless
-	 * a strictly newer spot appears or the current pick is no longer valid.
+	 * Rebuilds the per-spot draw state so the overlays only have to draw it.
 	 */
-	private void updateNewestSpot()
+	private void updateRenderModel()
 	{
-		// Check if the current pick is still valid
-		if (cachedNewestSpot != null)
+		if (trackedSpots.isEmpty())
 		{
-			TrackedSpot tracked = trackedSpots.get(cachedNewestSpot);
-			if (tracked == null || cachedNewestSpot.getId() == -1)
-			{
-				cachedNewestSpot = null;
-			}
+			renderModel = Collections.emptyList();
+			renderModelVersion++;
+			return;
 		}
 
-		NPC bestCandidate = null;
-		int lowestElapsed = Integer.MAX_VALUE;
+		RenderSettings settings = renderSettings;
 		int currentTick = client.getTickCount();
+		int playerTile = getPlayerTile();
+		NPC activeSpot = activity.getActiveSpot();
+		NPC newestSpot = settings.showNewestBadge ? cachedNewestSpot : null;
+		Set<String> ignoredFish = settings.ignoredFish;
+		NPC nearestFreshSpot = settings.highlightNearestFresh && playerTile != WorldTiles.NO_TILE
+			? findNearestFreshSpot(playerTile) : null;
 
-		for (Map.Entry<NPC, TrackedSpot> entry : trackedSpots.entrySet())
+		lastRenderModel ^= 1;
+		SpotRenderModel model = renderModels[lastRenderModel];
+		model.reset();
+
+		for (int i = 0; i < trackedSpots.size(); i++)
 		{
-			NPC npc = entry.getKey();
-			if (npc.getId() == -1)
+			NPC npc = trackedSpots.npc(i);
+
+			FishingSpotData spotData = FishingSpotData.findSpot(npc.getId());
+			if (spotData == null)
 			{
 				continue;
 			}
 
-			FishingSpotData spotData = FishingSpotData.findSpot(npc.getId());
-			if (spotData != null && spotData.isStatic())
+			// Filter: static spots
+			if (spotData.isStatic() && !settings.showStaticSpots)
 			{
 				continue;
 			}
 
-			int elapsed = currentTick - entry.getValue().spawnTick;
-			if (elapsed < lowestElapsed)
+			// Deduplication: only the first NPC on a tile is drawn in the scene.
+			// Also skip the spot in the scene entirely if all its fish are ignored.
+			FishingSpotData.Fish displayFish = settings.displayFish[spotData.ordinal()];
+			boolean duplicate = !spatialIndex.isPrimary(npc);
+			boolean inScene = !duplicate && (ignoredFish.isEmpty() || displayFish != null);
+
+			int elapsedTicks = currentTick - trackedSpots.spawnTick(i);
+			double progress = getSpotProgress(spotData, elapsedTicks);
+			boolean isActive = npc.equals(activeSpot);
+			boolean isNewest = npc.equals(newestSpot);
+
+			Color textColor = isActive ? settings.activeTextColor : settings.gradient.opaque(progress);
+
+			// Timer text (with optional star prefix for newest spot)
+			String timerText = null;
+			Color timerColor = textColor;
+			if (settings.showTimer)
 			{
-				lowestElapsed = elapsed;
-				bestCandidate = npc;
+				timerText = timerLabels.get(elapsedTicks, spotData.isUnpredictable(), isNewest);
+			}
+			else if (isNewest)
+			{
+				// Timer is off but badge is on — show just the star
+				timerText = TimerLabelCache.NEWEST_BADGE;
 			}
-		}
 
-		if (cachedNewestSpot == null)
-		{
-			// No current pick — use whatever we found
-			cachedNewestSpot = bestCandidate;
-		}
-		else if (bestCandidate != null)
-		{
-			// Only switch if the new candidate is strictly newer
-			TrackedSpot currentTracked = trackedSpots.get(cachedNewestSpot);
-			TrackedSpot candidateTracked = trackedSpots.get(bestCandidate);
-			if (currentTracked != null && candidateTracked != null
-				&& candidateTracked.spawnTick > currentTracked.spawnTick)
+			if (isNewest)
+			{
+				timerColor = settings.badgeTextColor;
+			}
+
+			// Spot name (shows highest-level unfiltered fish name)
+			String nameText = null;
+			if (settings.showSpotName)
+			{
+				nameText = (displayFish != null) ? displayFish.getName() : spotData.getName();
+			}
+
+			String moveChanceText = null;
+			if (settings.showMoveChance && !spotData.isStatic())
 			{
-				cachedNewestSpot = bestCandidate;
+				moveChanceText = SpotSurvival.label(survival.moveChance(spotData, elapsedTicks, settings.moveChanceTicks));
 			}
+
+			SpotRenderInfo spot = model.append();
+			spot.npc = npc;
+			spot.spotData = spotData;
+			spot.tile = trackedSpots.tile(i);
+			spot.progress = progress;
+			spot.active = isActive;
+			spot.newest = isNewest;
+			spot.nearestFresh = npc == nearestFreshSpot;
+			spot.inScene = inScene;
+			spot.duplicate = duplicate;
+			spot.textColor = textColor;
+			spot.minimapColor = settings.gradient.opaque(progress);
+			spot.timerText = timerText;
+			spot.timerColor = timerColor;
+			spot.nameText = nameText;
+			spot.moveChanceText = moveChanceText;
+			spot.iconFish = settings.showFishIcon ? displayFish : null;
 		}
+
+		renderModel = model;
+		renderPlayerTile = playerTile;
+		renderModelVersion++;
 	}
 
-	@Provides
-	FishingSpotTrackerConfig provideConfig(ConfigManager configManager)
+	/**
+	 * Publishes an empty render model and drops the NPCs held by the reusable ones.
+	 */
+	private void clearRenderModel()
 	{
-		return configManager.getConfig(FishingSpotTrackerConfig.class);
+		renderModel = Collections.emptyList();
+		renderModelVersion++;
+		renderModels[0].reset();
+		renderModels[1].reset();
+	}
+
+	private int getPlayerTile()
+	{
+		Player localPlayer = client.getLocalPlayer();
+		if (localPlayer == null)
+		{
+			return WorldTiles.NO_TILE;
+		}
+
+		LocalPoint localPoint = localPlayer.getLocalLocation();
+		return localPoint != null ? WorldTiles.pack(client.getTopLevelWorldView(), localPoint) : WorldTiles.NO_TILE;
+	}
+
+	/**
+	 * Packs the NPC's tile from its local position, or returns {@link WorldTiles#NO_TILE}
+	 * if it has none.
+	 */
+	private int getTile(NPC npc)
+	{
+		LocalPoint localPoint = npc.getLocalLocation();
+		return localPoint != null ? WorldTiles.pack(client.getTopLevelWorldView(), localPoint) : WorldTiles.NO_TILE;
 	}
 
 	/**
-	 * Tracks a fishing spot NPC with its original spawn tick and last known position.
+	 * Returns the closest spot to the player that is still fresh, if any.
 	 */
-	static class TrackedSpot
+	private NPC findNearestFreshSpot(int playerTile)
 	{
-		final int spawnTick;
-		final WorldPoint worldPoint;
+		int found = spatialIndex.nearest(playerTile, NEAREST_FRESH_MAX_DISTANCE, freshSpotFilter, nearestFreshResult);
+		NPC nearest = found > 0 ? nearestFreshResult[0] : null;
+		nearestFreshResult[0] = null;
+		return nearest;
+	}
 
-		TrackedSpot(int spawnTick, WorldPoint worldPoint)
+	/**
+	 * A fresh spot moves, is shown in the scene, and is less than halfway through its lifetime.
+	 */
+	private boolean isFreshSpot(NPC npc)
+	{
+		int pos = trackedSpots.indexOf(npc);
+		FishingSpotData spotData = FishingSpotData.findSpot(npc.getId());
+		if (pos < 0 || spotData == null || spotData.isStatic())
 		{
-			this.spawnTick = spawnTick;
-			this.worldPoint = worldPoint;
+			return false;
 		}
+
+		RenderSettings settings = renderSettings;
+		if (!settings.ignoredFish.isEmpty() && settings.displayFish[spotData.ordinal()] == null)
+		{
+			return false;
+		}
+
+		int elapsed = client.getTickCount() - trackedSpots.spawnTick(pos);
+		return getSpotProgress(spotData, elapsed) < FRESH_PROGRESS_THRESHOLD;
 	}
 
 	/**
-	 * A despawned spot saved by location so the timer can be restored
-	 * if the player walks back into range.
+	 * Returns a value between 0.0 and 1.0 representing how far through
+	 * its estimated lifetime the spot is. 0.0 = just appeared, 1.0 = at max expected duration.
 	 */
-	private static class CachedSpot
+	public double getSpotProgress(NPC npc)
+	{
+		int pos = trackedSpots.indexOf(npc);
+		if (pos < 0)
+		{
+			return 0.0;
+		}
+
+		int elapsed = client.getTickCount() - trackedSpots.spawnTick(pos);
+		return getSpotProgress(FishingSpotData.findSpot(npc.getId()), elapsed);
+	}
+
+	private double getSpotProgress(FishingSpotData spotData, int elapsedTicks)
 	{
-		final int spawnTick;
-		final int despawnTick;
+		if (spotData == null)
+		{
+			return Math.min(1.0, (double) elapsedTicks / FishingSpotData.DEFAULT_MAX_TICKS);
+		}
+		return lifetimes.progress(spotData, elapsedTicks);
+	}
 
-		CachedSpot(int spawnTick, int despawnTick)
+	private void observeLifetime(FishingSpotData spotData, int lifetimeTicks)
+	{
+		if (!lifetimesLoaded && pendingLifetimes < MAX_PENDING_LIFETIMES)
 		{
-			this.spawnTick = spawnTick;
-			this.despawnTick = despawnTick;
+			pendingLifetimeTypes[pendingLifetimes] = spotData.ordinal();
+			pendingLifetimeTicks[pendingLifetimes] = lifetimeTicks;
+			pendingLifetimes++;
 		}
+
+		lifetimes.observe(spotData, lifetimeTicks);
+		survival.invalidate(spotData);
+		lifetimesChanged = true;
+	}
+
+	private boolean isNearPlayer(int tile)
+	{
+		int playerTile = getPlayerTile();
+		return playerTile != WorldTiles.NO_TILE && WorldTiles.distance(playerTile, tile) <= OBSERVATION_RADIUS;
 	}
 
 	/**
-	 * Composite key: world location + NPC ID, so we only restore timers
-	 * for the same spot type at the same tile.
+	 * Gets the spawn tick for a tracked NPC (used by the overlay for timer text).
 	 */
-	private static class LocationKey
+	public Integer getSpawnTick(NPC npc)
 	{
-		final WorldPoint worldPoint;
-		final int npcId;
+		int pos = trackedSpots.indexOf(npc);
+		return pos >= 0 ? trackedSpots.spawnTick(pos) : null;
+	}
 
-		LocationKey(WorldPoint worldPoint, int npcId)
+	/**
+	 * Returns the cached newest spot. Updated each game tick to avoid
+	 * bouncing between spots that share the same spawn tick.
+	 */
+	public NPC getNewestSpot()
+	{
+		return cachedNewestSpot;
+	}
+
+	/**
+	 * Picks the newest spot from the index. Sticky: keeps the current pick unless
+	 * a strictly newer spot appears or the current pick is no longer tracked.
+	 */
+	private void updateNewestSpot()
+	{
+		cachedNewestSpot = newestSpotTracking ? newestSpotIndex.newest(cachedNewestSpot) : null;
+	}
+
+	/**
+	 * Records a tracked spot's spawn tick in the newest-spot index. Static spots never move,
+	 * so they are left out.
+	 */
+	private void indexNewestSpot(NPC npc, FishingSpotData spotData, int spawnTick)
+	{
+		if (!newestSpotTracking)
 		{
-			this.worldPoint = worldPoint;
-			this.npcId = npcId;
+			return;
 		}
 
-		@Override
-		public boolean equals(Object o)
+		if (spotData == null || spotData.isStatic())
+		{
+			newestSpotIndex.remove(npc);
+		}
+		else
 		{
-			if (this == o) return true;
-			if (!(o instanceof LocationKey)) return false;
-			LocationKey that = (LocationKey) o;
-			return npcId == that.npcId && worldPoint.equals(that.worldPoint);
+			newestSpotIndex.put(npc, spawnTick);
 		}
+	}
 
-		@Override
-		public int hashCode()
+	private void rebuildNewestSpotIndex()
+	{
+		newestSpotIndex.clear();
+		cachedNewestSpot = null;
+		for (int i = 0; i < trackedSpots.size(); i++)
 		{
-			return 31 * worldPoint.hashCode() + npcId;
+			NPC npc = trackedSpots.npc(i);
+			indexNewestSpot(npc, FishingSpotData.findSpot(npc.getId()), trackedSpots.spawnTick(i));
 		}
+		updateNewestSpot();
+	}
+
+	@Provides
+	FishingSpotTrackerConfig provideConfig(ConfigManager configManager)
+	{
+		return configManager.getConfig(FishingSpotTrackerConfig.class);
 	}
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing int-to-int hash map with linear probing, so lookups on hot paths
+ * neither box keys nor allocate entries. Removal uses backward-shift deletion, so
+ * there are no tombstones.
+ *
+ * Any int is a valid key; values must be non-negative, as a negative value marks an empty slot.
+ */
+class IntIntMap
+{
+	static final int NO_VALUE = -1;
+
+	private int[] keys;
+	private int[] values;
+	private int mask;
+	private int size;
+
+	IntIntMap(int expectedSize)
+	{
+		int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2) - 1) << 1;
+		allocate(capacity);
+	}
+
+	int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns the value for the key, or {@link #NO_VALUE} if absent.
+	 */
+	int get(int key)
+	{
+		for (int i = mix(key) & mask; ; i = (i + 1) & mask)
+		{
+			int v = values[i];
+			if (v == NO_VALUE || keys[i] == key)
+			{
+				return v;
+			}
+		}
+	}
+
+	void put(int key, int value)
+	{
+		assert value >= 0;
+		int i = mix(key) & mask;
+		for (; values[i] != NO_VALUE; i = (i + 1) & mask)
+		{
+			if (keys[i] == key)
+			{
+				values[i] = value;
+				return;
+			}
+		}
+
+		keys[i] = key;
+		values[i] = value;
+		if (++size * 2 > keys.length)
+		{
+			rehash(keys.length * 2);
+		}
+	}
+
+	/**
+	 * Removes the key and returns its value, or {@link #NO_VALUE} if absent.
+	 */
+	int remove(int key)
+	{
+		int i = mix(key) & mask;
+		for (; keys[i] != key; i = (i + 1) & mask)
+		{
+			if (values[i] == NO_VALUE)
+			{
+				return NO_VALUE;
+			}
+		}
+		if (values[i] == NO_VALUE)
+		{
+			return NO_VALUE;
+		}
+
+		int removed = values[i];
+		size--;
+
+		// Shift later entries of the probe run back into the gap
+		int gap = i;
+		for (int j = (gap + 1) & mask; values[j] != NO_VALUE; j = (j + 1) & mask)
+		{
+			int home = mix(keys[j]) & mask;
+			if (((j - home) & mask) >= ((j - gap) & mask))
+			{
+				keys[gap] = keys[j];
+				values[gap] = values[j];
+				gap = j;
+			}
+		}
+		values[gap] = NO_VALUE;
+		return removed;
+	}
+
+	void clear()
+	{
+		Arrays.fill(values, NO_VALUE);
+		size = 0;
+	}
+
+	private void allocate(int capacity)
+	{
+		keys = new int[capacity];
+		values = new int[capacity];
+		mask = capacity - 1;
+		Arrays.fill(values, NO_VALUE);
+	}
+
+	private void rehash(int capacity)
+	{
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(capacity);
+		size = 0;
+		for (int i = 0; i < oldKeys.length; i++)
+		{
+			if (oldValues[i] != NO_VALUE)
+			{
+				put(oldKeys[i], oldValues[i]);
+			}
+		}
+	}
+
+	private static int mix(int key)
+	{
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
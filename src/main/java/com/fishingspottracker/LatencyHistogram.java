@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size histogram of durations in nanoseconds. Each power of two is split into
+ * {@link #SUB_BUCKETS} linear buckets, so a reported value is never more than 1/8 above
+ * the true one. Recording is a couple of shifts and an array increment, with no allocation.
+ *
+ * Not thread-safe.
+ */
+class LatencyHistogram
+{
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	/**
+	 * Values below {@link #SUB_BUCKETS} get a bucket each; above that, one row of
+	 * sub-buckets per exponent up to 62.
+	 */
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final long[] counts = new long[BUCKETS];
+	private long count;
+	private long max;
+
+	void record(long nanos)
+	{
+		long value = Math.max(0, nanos);
+		counts[bucket(value)]++;
+		count++;
+		if (value > max)
+		{
+			max = value;
+		}
+	}
+
+	long count()
+	{
+		return count;
+	}
+
+	long max()
+	{
+		return max;
+	}
+
+	/**
+	 * Returns the value at quantile {@code q} (0-1), rounded up to its bucket's upper bound,
+	 * or 0 if nothing has been recorded.
+	 */
+	long percentile(double q)
+	{
+		if (count == 0)
+		{
+			return 0;
+		}
+
+		long target = Math.max(1, (long) Math.ceil(q * count));
+		long seen = 0;
+		for (int b = 0; b < BUCKETS; b++)
+		{
+			seen += counts[b];
+			if (seen >= target)
+			{
+				return Math.min(upperBound(b), max);
+			}
+		}
+		return max;
+	}
+
+	void reset()
+	{
+		Arrays.fill(counts, 0);
+		count = 0;
+		max = 0;
+	}
+
+	private static int bucket(long value)
+	{
+		if (value < SUB_BUCKETS)
+		{
+			return (int) value;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	private static long upperBound(int bucket)
+	{
+		if (bucket < SUB_BUCKETS)
+		{
+			return bucket;
+		}
+
+		int shift = bucket / SUB_BUCKETS - 1;
+		long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+		return lower + (1L << shift) - 1;
+	}
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.util.Arrays;
+
+/**
+ * Remembers despawned spots by tile and NPC ID so their timers can be restored when the
+ * player walks back into range. Keys pack a {@link WorldTiles} tile and an NPC ID into one
+ * long, held in an open-addressing table with parallel tick arrays, so probes and inserts
+ * never allocate.
+ *
+ * Every insert is also appended to a ring ordered by despawn tick, so expiry only looks at
+ * the oldest entries instead of scanning the whole table. Despawn ticks are expected to be
+ * non-decreasing across inserts; an out-of-order tick just expires late.
+ *
+ * Despawn ticks must be non-negative, as a negative despawn tick marks an empty slot.
+ * Spawn ticks may be negative, e.g. for a timer restored from before the client started,
+ * but not {@link #NO_SPAWN_TICK}, which {@link #remove} returns for a miss.
+ */
+class LocationCache
+{
+	static final int NO_SPAWN_TICK = Integer.MIN_VALUE;
+
+	private static final int NO_VALUE = -1;
+
+	private long[] keys;
+	private int[] spawnTicks;
+	private int[] despawnTicks;
+	private int mask;
+	private int size;
+
+	/**
+	 * Keys and despawn ticks in insertion order. Entries whose key has since been removed
+	 * or re-inserted are stale and are skipped when they reach the head.
+	 */
+	private long[] ringKeys;
+	private int[] ringTicks;
+	private int ringHead;
+	private int ringCount;
+
+	LocationCache(int expectedSize)
+	{
+		int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2) - 1) << 1;
+		allocate(capacity);
+		ringKeys = new long[capacity];
+		ringTicks = new int[capacity];
+	}
+
+	int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Caches a despawned spot, replacing any earlier entry for the same tile and NPC ID.
+	 */
+	void put(int tile, int npcId, int spawnTick, int despawnTick)
+	{
+		assert despawnTick >= 0;
+		assert spawnTick != NO_SPAWN_TICK;
+		long key = key(tile, npcId);
+		enqueue(key, despawnTick);
+
+		int i = mix(key) & mask;
+		for (; despawnTicks[i] != NO_VALUE; i = (i + 1) & mask)
+		{
+			if (keys[i] == key)
+			{
+				spawnTicks[i] = spawnTick;
+				despawnTicks[i] = despawnTick;
+				return;
+			}
+		}
+
+		keys[i] = key;
+		spawnTicks[i] = spawnTick;
+		despawnTicks[i] = despawnTick;
+		if (++size * 2 > keys.length)
+		{
+			rehash(keys.length * 2);
+		}
+	}
+
+	/**
+	 * Removes the entry for the tile and NPC ID and returns its spawn tick,
+	 * or {@link #NO_SPAWN_TICK} if there was none.
+	 */
+	int remove(int tile, int npcId)
+	{
+		int i = find(key(tile, npcId));
+		if (i < 0)
+		{
+			return NO_SPAWN_TICK;
+		}
+
+		int spawnTick = spawnTicks[i];
+		removeAt(i);
+		return spawnTick;
+	}
+
+	/**
+	 * Drops every entry that despawned before the cutoff tick, popping only the ring
+	 * entries that have aged out.
+	 */
+	void expire(int cutoffTick)
+	{
+		while (ringCount > 0 && ringTicks[ringHead] < cutoffTick)
+		{
+			long key = ringKeys[ringHead];
+			int despawnTick = ringTicks[ringHead];
+			ringHead = (ringHead + 1) & (ringKeys.length - 1);
+			ringCount--;
+
+			// Only remove if this ring entry still describes the cached spot
+			int i = find(key);
+			if (i >= 0 && despawnTicks[i] == despawnTick)
+			{
+				removeAt(i);
+			}
+		}
+	}
+
+	void forEach(EntryConsumer consumer)
+	{
+		for (int i = 0; i < keys.length; i++)
+		{
+			if (despawnTicks[i] != NO_VALUE)
+			{
+				consumer.accept((int) (keys[i] >>> 32), (int) keys[i], spawnTicks[i], despawnTicks[i]);
+			}
+		}
+	}
+
+	void clear()
+	{
+		Arrays.fill(despawnTicks, NO_VALUE);
+		size = 0;
+		ringHead = 0;
+		ringCount = 0;
+	}
+
+	private int find(long key)
+	{
+		for (int i = mix(key) & mask; despawnTicks[i] != NO_VALUE; i = (i + 1) & mask)
+		{
+			if (keys[i] == key)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void enqueue(long key, int despawnTick)
+	{
+		if (ringCount == ringKeys.length)
+		{
+			growRing();
+		}
+
+		int tail = (ringHead + ringCount) & (ringKeys.length - 1);
+		ringKeys[tail] = key;
+		ringTicks[tail] = despawnTick;
+		ringCount++;
+	}
+
+	private void growRing()
+	{
+		int capacity = ringKeys.length * 2;
+		long[] newKeys = new long[capacity];
+		int[] newTicks = new int[capacity];
+		for (int n = 0; n < ringCount; n++)
+		{
+			int j = (ringHead + n) & (ringKeys.length - 1);
+			newKeys[n] = ringKeys[j];
+			newTicks[n] = ringTicks[j];
+		}
+		ringKeys = newKeys;
+		ringTicks = newTicks;
+		ringHead = 0;
+	}
+
+	private void removeAt(int i)
+	{
+		size--;
+
+		// Shift later entries of the probe run back into the gap
+		int gap = i;
+		for (int j = (gap + 1) & mask; despawnTicks[j] != NO_VALUE; j = (j + 1) & mask)
+		{
+			int home = mix(keys[j]) & mask;
+			if (((j - home) & mask) >= ((j - gap) & mask))
+			{
+				keys[gap] = keys[j];
+				spawnTicks[gap] = spawnTicks[j];
+				despawnTicks[gap] = despawnTicks[j];
+				gap = j;
+			}
+		}
+		despawnTicks[gap] = NO_VALUE;
+	}
+
+	private void allocate(int capacity)
+	{
+		keys = new long[capacity];
+		spawnTicks = new int[capacity];
+		despawnTicks = new int[capacity];
+		mask = capacity - 1;
+		Arrays.fill(despawnTicks, NO_VALUE);
+	}
+
+	private void rehash(int capacity)
+	{
+		long[] oldKeys = keys;
+		int[] oldSpawnTicks = spawnTicks;
+		int[] oldDespawnTicks = despawnTicks;
+		allocate(capacity);
+		for (int i = 0; i < oldKeys.length; i++)
+		{
+			if (oldDespawnTicks[i] != NO_VALUE)
+			{
+				int j = mix(oldKeys[i]) & mask;
+				while (despawnTicks[j] != NO_VALUE)
+				{
+					j = (j + 1) & mask;
+				}
+				keys[j] = oldKeys[i];
+				spawnTicks[j] = oldSpawnTicks[i];
+				despawnTicks[j] = oldDespawnTicks[i];
+			}
+		}
+	}
+
+	interface EntryConsumer
+	{
+		void accept(int tile, int npcId, int spawnTick, int despawnTick);
+	}
+
+	private static long key(int tile, int npcId)
+	{
+		return (long) tile << 32 | (npcId & 0xFFFFFFFFL);
+	}
+
+	private static int mix(long key)
+	{
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * The minimap dots, rasterized into one image so a frame draws them with a single copy.
+ *
+ * Dots are written straight into the image's pixel array with a coverage mask taken from
+ * an antialiased {@code fillOval}, so a rebuild allocates nothing once the image is big
+ * enough. The image only grows; a rebuild uses its top-left corner, sized to the bounding
+ * box of the dots.
+ *
+ * Client thread only.
+ */
+class MinimapDotLayer
+{
+	static final int DOT_SIZE = 4;
+
+	/**
+	 * Coverage (0-255) of each pixel of an antialiased dot, row by row.
+	 */
+	private static final int[] DOT_MASK = dotMask();
+
+	/**
+	 * Image growth step, so a layer that widens by a pixel doesn't reallocate.
+	 */
+	private static final int GROW = 32;
+
+	private BufferedImage image;
+	private int[] pixels;
+
+	// Dot centers and colors, collected before the bounds are known
+	private int[] dotX = new int[16];
+	private int[] dotY = new int[16];
+	private int[] dotRgb = new int[16];
+	private int dots;
+
+	// Canvas position and size of the last build
+	private int originX;
+	private int originY;
+	private int width;
+	private int height;
+
+	void clear()
+	{
+		dots = 0;
+	}
+
+	/**
+	 * Queues a dot centered on the given canvas point.
+	 */
+	void add(int x, int y, Color color)
+	{
+		if (dots == dotX.length)
+		{
+			dotX = Arrays.copyOf(dotX, dots * 2);
+			dotY = Arrays.copyOf(dotY, dots * 2);
+			dotRgb = Arrays.copyOf(dotRgb, dots * 2);
+		}
+		dotX[dots] = x;
+		dotY[dots] = y;
+		dotRgb[dots] = color.getRGB();
+		dots++;
+	}
+
+	int size()
+	{
+		return dots;
+	}
+
+	/**
+	 * Rasterizes the queued dots, in order, so later dots draw over earlier ones.
+	 */
+	void build()
+	{
+		if (dots == 0)
+		{
+			return;
+		}
+
+		int minX = Integer.MAX_VALUE;
+		int minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE;
+		int maxY = Integer.MIN_VALUE;
+		for (int i = 0; i < dots; i++)
+		{
+			minX = Math.min(minX, dotX[i]);
+			minY = Math.min(minY, dotY[i]);
+			maxX = Math.max(maxX, dotX[i]);
+			maxY = Math.max(maxY, dotY[i]);
+		}
+
+		originX = minX - DOT_SIZE / 2;
+		originY = minY - DOT_SIZE / 2;
+		width = maxX - minX + DOT_SIZE;
+		height = maxY - minY + DOT_SIZE;
+		ensureCapacity(width, height);
+
+		int stride = image.getWidth();
+		for (int y = 0; y < height; y++)
+		{
+			Arrays.fill(pixels, y * stride, y * stride + width, 0);
+		}
+
+		for (int i = 0; i < dots; i++)
+		{
+			blendDot(dotX[i] - DOT_SIZE / 2 - originX, dotY[i] - DOT_SIZE / 2 - originY, dotRgb[i], stride);
+		}
+	}
+
+	/**
+	 * Draws the last build, or nothing if it had no dots.
+	 */
+	void draw(Graphics2D graphics)
+	{
+		if (dots == 0)
+		{
+			return;
+		}
+
+		graphics.drawImage(image,
+			originX, originY, originX + width, originY + height,
+			0, 0, width, height,
+			null);
+	}
+
+	private void ensureCapacity(int width, int height)
+	{
+		if (image != null && image.getWidth() >= width && image.getHeight() >= height)
+		{
+			return;
+		}
+
+		int w = roundUp(Math.max(width, image != null ? image.getWidth() : 0));
+		int h = roundUp(Math.max(height, image != null ? image.getHeight() : 0));
+		image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+		pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+	}
+
+	/**
+	 * Source-over blends an opaque color through the dot mask, in premultiplied ARGB.
+	 */
+	private void blendDot(int left, int top, int rgb, int stride)
+	{
+		int r = (rgb >> 16) & 0xFF;
+		int g = (rgb >> 8) & 0xFF;
+		int b = rgb & 0xFF;
+
+		for (int y = 0; y < DOT_SIZE; y++)
+		{
+			int row = (top + y) * stride + left;
+			for (int x = 0; x < DOT_SIZE; x++)
+			{
+				int a = DOT_MASK[y * DOT_SIZE + x];
+				if (a == 0)
+				{
+					continue;
+				}
+
+				int dst = pixels[row + x];
+				int keep = 255 - a;
+				int outA = a + mul((dst >>> 24), keep);
+				int outR = mul(r, a) + mul((dst >> 16) & 0xFF, keep);
+				int outG = mul(g, a) + mul((dst >> 8) & 0xFF, keep);
+				int outB = mul(b, a) + mul(dst & 0xFF, keep);
+				pixels[row + x] = outA << 24 | outR << 16 | outG << 8 | outB;
+			}
+		}
+	}
+
+	/**
+	 * (x * y) / 255, rounded.
+	 */
+	private static int mul(int x, int y)
+	{
+		int t = x * y + 128;
+		return (t + (t >> 8)) >> 8;
+	}
+
+	private static int roundUp(int size)
+	{
+		return (size + GROW - 1) / GROW * GROW;
+	}
+
+	private static int[] dotMask()
+	{
+		BufferedImage dot = new BufferedImage(DOT_SIZE, DOT_SIZE, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = dot.createGraphics();
+		graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		graphics.setColor(Color.WHITE);
+		graphics.fillOval(0, 0, DOT_SIZE, DOT_SIZE);
+		graphics.dispose();
+
+		int[] mask = new int[DOT_SIZE * DOT_SIZE];
+		for (int y = 0; y < DOT_SIZE; y++)
+		{
+			for (int x = 0; x < DOT_SIZE; x++)
+			{
+				mask[y * DOT_SIZE + x] = dot.getRGB(x, y) >>> 24;
+			}
+		}
+		return mask;
+	}
+}
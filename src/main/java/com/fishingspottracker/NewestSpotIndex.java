@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.util.Arrays;
+import net.runelite.api.NPC;
+
+/**
+ * Indexed max-heap of non-static spots ordered by spawn tick, kept up to date as spots
+ * spawn, move, reset and despawn, so the newest spot is read without scanning.
+ * Spots are keyed by NPC index.
+ */
+class NewestSpotIndex
+{
+	private NPC[] npcs = new NPC[64];
+	private int[] spawnTicks = new int[64];
+	private int size;
+
+	private final IntIntMap positionByNpcIndex = new IntIntMap(64);
+
+	int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Adds a spot, or updates its spawn tick if it is already indexed.
+	 */
+	void put(NPC npc, int spawnTick)
+	{
+		int pos = positionByNpcIndex.get(npc.getIndex());
+		if (pos == IntIntMap.NO_VALUE)
+		{
+			if (size == npcs.length)
+			{
+				npcs = Arrays.copyOf(npcs, size * 2);
+				spawnTicks = Arrays.copyOf(spawnTicks, size * 2);
+			}
+			pos = size++;
+		}
+		else if (spawnTicks[pos] > spawnTick)
+		{
+			npcs[pos] = npc;
+			spawnTicks[pos] = spawnTick;
+			siftDown(pos);
+			return;
+		}
+
+		npcs[pos] = npc;
+		spawnTicks[pos] = spawnTick;
+		siftUp(pos);
+	}
+
+	void remove(NPC npc)
+	{
+		int pos = positionByNpcIndex.remove(npc.getIndex());
+		if (pos == IntIntMap.NO_VALUE)
+		{
+			return;
+		}
+
+		int last = --size;
+		if (pos != last)
+		{
+			npcs[pos] = npcs[last];
+			spawnTicks[pos] = spawnTicks[last];
+			positionByNpcIndex.put(npcs[pos].getIndex(), pos);
+			siftDown(pos);
+			siftUp(pos);
+		}
+		npcs[last] = null;
+	}
+
+	void clear()
+	{
+		Arrays.fill(npcs, 0, size, null);
+		positionByNpcIndex.clear();
+		size = 0;
+	}
+
+	/**
+	 * Returns the newest spot. Sticky: keeps {@code current} while it is still indexed and
+	 * no other spot spawned strictly later, so tied spots don't bounce between ticks.
+	 */
+	NPC newest(NPC current)
+	{
+		if (size == 0)
+		{
+			return null;
+		}
+
+		if (current != null)
+		{
+			int pos = positionByNpcIndex.get(current.getIndex());
+			if (pos != IntIntMap.NO_VALUE && npcs[pos] == current && spawnTicks[pos] == spawnTicks[0])
+			{
+				return current;
+			}
+		}
+		return npcs[0];
+	}
+
+	private void siftUp(int pos)
+	{
+		NPC npc = npcs[pos];
+		int tick = spawnTicks[pos];
+		while (pos > 0)
+		{
+			int parent = (pos - 1) >>> 1;
+			if (spawnTicks[parent] >= tick)
+			{
+				break;
+			}
+			move(parent, pos);
+			pos = parent;
+		}
+		place(npc, tick, pos);
+	}
+
+	private void siftDown(int pos)
+	{
+		NPC npc = npcs[pos];
+		int tick = spawnTicks[pos];
+		int half = size >>> 1;
+		while (pos < half)
+		{
+			int child = 2 * pos + 1;
+			if (child + 1 < size && spawnTicks[child + 1] > spawnTicks[child])
+			{
+				child++;
+			}
+			if (spawnTicks[child] <= tick)
+			{
+				break;
+			}
+			move(child, pos);
+			pos = child;
+		}
+		place(npc, tick, pos);
+	}
+
+	private void move(int from, int to)
+	{
+		npcs[to] = npcs[from];
+		spawnTicks[to] = spawnTicks[from];
+		positionByNpcIndex.put(npcs[to].getIndex(), to);
+	}
+
+	private void place(NPC npc, int tick, int pos)
+	{
+		npcs[pos] = npc;
+		spawnTicks[pos] = tick;
+		positionByNpcIndex.put(npc.getIndex(), pos);
+	}
+}
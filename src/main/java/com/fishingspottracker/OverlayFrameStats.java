@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+/**
+ * Per-frame cost and draw counts for one overlay, over a rolling window of the last
+ * {@link #WINDOW} frames.
+ *
+ * The overlay bumps the public counters while it draws and closes each frame with
+ * {@link #endFrame}. Rendering happens on the client thread, so the debug overlay reads
+ * the window there too without locking.
+ */
+class OverlayFrameStats
+{
+	static final int WINDOW = 128;
+	private static final int MASK = WINDOW - 1;
+
+	// Counts for the frame being drawn
+	int considered;
+	int deduped;
+	int culled;
+	int drawn;
+	int icons;
+	int labels;
+	int rebuilt;
+
+	// Ring of finished frames
+	private final long[] frameNanos = new long[WINDOW];
+	private final int[] frameConsidered = new int[WINDOW];
+	private final int[] frameDeduped = new int[WINDOW];
+	private final int[] frameCulled = new int[WINDOW];
+	private final int[] frameDrawn = new int[WINDOW];
+	private final int[] frameIcons = new int[WINDOW];
+	private final int[] frameLabels = new int[WINDOW];
+	private final int[] frameRebuilt = new int[WINDOW];
+	private long frames;
+
+	void beginFrame()
+	{
+		considered = 0;
+		deduped = 0;
+		culled = 0;
+		drawn = 0;
+		icons = 0;
+		labels = 0;
+		rebuilt = 0;
+	}
+
+	void endFrame(long nanos)
+	{
+		int slot = (int) frames & MASK;
+		frameNanos[slot] = nanos;
+		frameConsidered[slot] = considered;
+		frameDeduped[slot] = deduped;
+		frameCulled[slot] = culled;
+		frameDrawn[slot] = drawn;
+		frameIcons[slot] = icons;
+		frameLabels[slot] = labels;
+		frameRebuilt[slot] = rebuilt;
+		frames++;
+	}
+
+	/**
+	 * Frames in the window, up to {@link #WINDOW}.
+	 */
+	int windowFrames()
+	{
+		return (int) Math.min(frames, WINDOW);
+	}
+
+	double averageMicros()
+	{
+		return average(frameNanos) / 1000;
+	}
+
+	double maxMicros()
+	{
+		long max = 0;
+		for (int i = 0, n = windowFrames(); i < n; i++)
+		{
+			max = Math.max(max, frameNanos[i]);
+		}
+		return max / 1000.0;
+	}
+
+	double averageConsidered()
+	{
+		return average(frameConsidered);
+	}
+
+	double averageDeduped()
+	{
+		return average(frameDeduped);
+	}
+
+	double averageCulled()
+	{
+		return average(frameCulled);
+	}
+
+	double averageDrawn()
+	{
+		return average(frameDrawn);
+	}
+
+	double averageIcons()
+	{
+		return average(frameIcons);
+	}
+
+	double averageLabels()
+	{
+		return average(frameLabels);
+	}
+
+	/**
+	 * Fraction of frames that rebuilt a cached layer instead of only drawing it.
+	 */
+	double averageRebuilt()
+	{
+		return average(frameRebuilt);
+	}
+
+	private double average(long[] values)
+	{
+		int n = windowFrames();
+		long sum = 0;
+		for (int i = 0; i < n; i++)
+		{
+			sum += values[i];
+		}
+		return n > 0 ? (double) sum / n : 0;
+	}
+
+	private double average(int[] values)
+	{
+		int n = windowFrames();
+		long sum = 0;
+		for (int i = 0; i < n; i++)
+		{
+			sum += values[i];
+		}
+		return n > 0 ? (double) sum / n : 0;
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Streaming estimate of one quantile using the P² algorithm (Jain and Chlamtac, 1985).
+ * Keeps five markers whatever the number of observations, so memory is constant.
+ */
+class P2Quantile
+{
+	private static final int MARKERS = 5;
+
+	private final double p;
+	private final double[] heights = new double[MARKERS];
+	private final double[] positions = new double[MARKERS];
+	private final double[] desired = new double[MARKERS];
+	private final double[] increments;
+	private long count;
+
+	P2Quantile(double p)
+	{
+		this.p = p;
+		this.increments = new double[]{0, p / 2, p, (1 + p) / 2, 1};
+	}
+
+	long count()
+	{
+		return count;
+	}
+
+	void add(double x)
+	{
+		if (count < MARKERS)
+		{
+			heights[(int) count++] = x;
+			if (count == MARKERS)
+			{
+				Arrays.sort(heights);
+				for (int i = 0; i < MARKERS; i++)
+				{
+					positions[i] = i;
+				}
+				desired[0] = 0;
+				desired[1] = 2 * p;
+				desired[2] = 4 * p;
+				desired[3] = 2 + 2 * p;
+				desired[4] = 4;
+			}
+			return;
+		}
+
+		// Find the cell the observation falls in, widening the extremes if needed
+		int k;
+		if (x < heights[0])
+		{
+			heights[0] = x;
+			k = 0;
+		}
+		else if (x >= heights[4])
+		{
+			heights[4] = x;
+			k = 3;
+		}
+		else
+		{
+			k = 0;
+			while (x >= heights[k + 1])
+			{
+				k++;
+			}
+		}
+
+		for (int i = k + 1; i < MARKERS; i++)
+		{
+			positions[i]++;
+		}
+		for (int i = 0; i < MARKERS; i++)
+		{
+			desired[i] += increments[i];
+		}
+
+		// Nudge the middle markers toward their desired positions
+		for (int i = 1; i < MARKERS - 1; i++)
+		{
+			double d = desired[i] - positions[i];
+			if ((d >= 1 && positions[i + 1] - positions[i] > 1) || (d <= -1 && positions[i - 1] - positions[i] < -1))
+			{
+				int s = d > 0 ? 1 : -1;
+				double h = parabolic(i, s);
+				heights[i] = heights[i - 1] < h && h < heights[i + 1] ? h : linear(i, s);
+				positions[i] += s;
+			}
+		}
+		count++;
+	}
+
+	/**
+	 * Returns the current estimate, or NaN before the first observation.
+	 */
+	double estimate()
+	{
+		if (count == 0)
+		{
+			return Double.NaN;
+		}
+		if (count < MARKERS)
+		{
+			double[] sorted = Arrays.copyOf(heights, (int) count);
+			Arrays.sort(sorted);
+			return sorted[(int) Math.min(count - 1, Math.round(p * (count - 1)))];
+		}
+		return heights[2];
+	}
+
+	void copyFrom(P2Quantile other)
+	{
+		System.arraycopy(other.heights, 0, heights, 0, MARKERS);
+		System.arraycopy(other.positions, 0, positions, 0, MARKERS);
+		System.arraycopy(other.desired, 0, desired, 0, MARKERS);
+		count = other.count;
+	}
+
+	void write(DataOutput out) throws IOException
+	{
+		out.writeLong(count);
+		for (int i = 0; i < MARKERS; i++)
+		{
+			out.writeDouble(heights[i]);
+			out.writeDouble(positions[i]);
+			out.writeDouble(desired[i]);
+		}
+	}
+
+	void read(DataInput in) throws IOException
+	{
+		count = in.readLong();
+		for (int i = 0; i < MARKERS; i++)
+		{
+			heights[i] = in.readDouble();
+			positions[i] = in.readDouble();
+			desired[i] = in.readDouble();
+		}
+	}
+
+	private double parabolic(int i, int s)
+	{
+		double below = positions[i] - positions[i - 1];
+		double above = positions[i + 1] - positions[i];
+		return heights[i] + s / (positions[i + 1] - positions[i - 1])
+			* ((below + s) * (heights[i + 1] - heights[i]) / above
+			+ (above - s) * (heights[i] - heights[i - 1]) / below);
+	}
+
+	private double linear(int i, int s)
+	{
+		return heights[i] + s * (heights[i + s] - heights[i]) / (positions[i + s] - positions[i]);
+	}
+}
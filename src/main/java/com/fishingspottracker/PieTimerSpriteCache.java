@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Ellipse2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Pre-rendered pie-timer sprites at a fixed number of progress steps.
+ *
+ * Each sprite is drawn once with antialiasing for the current radius, stroke width,
+ * fill setting and color ramp, after which drawing a spot's timer is a single image copy.
+ * Sprites are rendered lazily and dropped only when a setting they are drawn from changes.
+ */
+class PieTimerSpriteCache
+{
+	/**
+	 * Number of discrete progress steps (3 degrees of sweep per step).
+	 */
+	static final int PROGRESS_STEPS = 120;
+
+	private BufferedImage[] rampSprites;
+	private BufferedImage[] activeSprites;
+	private BufferedImage highlightRing;
+	private int highlightHalfSize;
+
+	/**
+	 * Latest settings snapshot. Sprites are drawn from it.
+	 */
+	private RenderSettings settings;
+
+	// What the current sprites were rendered with
+	private int spriteRadius = -1;
+	private int spriteStrokeWidth;
+	private int spriteAlpha;
+	private boolean spriteFill;
+	private Color spriteFreshColor;
+	private Color spriteExpiredColor;
+	private Color spriteActiveColor;
+
+	/**
+	 * Half the sprite size; the sprite is centered on the spot's canvas point.
+	 */
+	private int halfSize;
+
+	/**
+	 * Draws the sprite for the given progress centered on (x, y), re-rendering the
+	 * sprite set first if the settings snapshot has changed.
+	 */
+	void draw(Graphics2D graphics, RenderSettings settings, int x, int y, double progress, boolean active)
+	{
+		checkSettings(settings);
+
+		int step = toStep(progress);
+		BufferedImage[] sprites = active ? activeSprites : rampSprites;
+		BufferedImage sprite = sprites[step];
+		if (sprite == null)
+		{
+			double stepProgress = (double) step / PROGRESS_STEPS;
+			Color strokeColor = active ? settings.activeStrokeColor : settings.gradient.stroke(stepProgress);
+			Color fillColor = active ? settings.activeFillColor : settings.gradient.fill(stepProgress);
+			sprite = renderSprite(strokeColor, fillColor, step);
+			sprites[step] = sprite;
+		}
+
+		graphics.drawImage(sprite, x - halfSize, y - halfSize, null);
+	}
+
+	/**
+	 * Draws the nearest-fresh-spot ring, just outside the pie timer, centered on (x, y).
+	 */
+	void drawHighlightRing(Graphics2D graphics, RenderSettings settings, int x, int y)
+	{
+		checkSettings(settings);
+
+		if (highlightRing == null)
+		{
+			int ringRadius = settings.circleRadius + settings.strokeWidth + 3;
+			highlightHalfSize = ringRadius + (settings.strokeWidth + 1) / 2 + 1;
+			int size = highlightHalfSize * 2;
+			highlightRing = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+			Graphics2D g = highlightRing.createGraphics();
+			try
+			{
+				g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+				g.setColor(settings.gradient.opaque(0));
+				g.setStroke(settings.stroke);
+				double offset = highlightHalfSize - ringRadius;
+				g.draw(new Ellipse2D.Double(offset, offset, ringRadius * 2, ringRadius * 2));
+			}
+			finally
+			{
+				g.dispose();
+			}
+		}
+
+		graphics.drawImage(highlightRing, x - highlightHalfSize, y - highlightHalfSize, null);
+	}
+
+	/**
+	 * Takes on a new settings snapshot, dropping the sprites only if a setting they are
+	 * drawn from changed.
+	 */
+	private void checkSettings(RenderSettings settings)
+	{
+		if (this.settings == settings)
+		{
+			return;
+		}
+
+		this.settings = settings;
+		if (settings.circleRadius == spriteRadius
+			&& settings.strokeWidth == spriteStrokeWidth
+			&& settings.alpha == spriteAlpha
+			&& settings.fillCircle == spriteFill
+			&& settings.freshColor.equals(spriteFreshColor)
+			&& settings.expiredColor.equals(spriteExpiredColor)
+			&& settings.activeColor.equals(spriteActiveColor))
+		{
+			return;
+		}
+
+		spriteRadius = settings.circleRadius;
+		spriteStrokeWidth = settings.strokeWidth;
+		spriteAlpha = settings.alpha;
+		spriteFill = settings.fillCircle;
+		spriteFreshColor = settings.freshColor;
+		spriteExpiredColor = settings.expiredColor;
+		spriteActiveColor = settings.activeColor;
+		halfSize = settings.circleRadius + (settings.strokeWidth + 1) / 2 + 1;
+		rampSprites = new BufferedImage[PROGRESS_STEPS + 1];
+		activeSprites = new BufferedImage[PROGRESS_STEPS + 1];
+		highlightRing = null;
+	}
+
+	static int toStep(double progress)
+	{
+		double clamped = Math.max(0.0, Math.min(1.0, progress));
+		return (int) Math.round(clamped * PROGRESS_STEPS);
+	}
+
+	private BufferedImage renderSprite(Color strokeColor, Color fillColor, int step)
+	{
+		int size = halfSize * 2;
+		BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		try
+		{
+			g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+			int radius = settings.circleRadius;
+			double x = halfSize - radius;
+			double y = halfSize - radius;
+			double diameter = radius * 2;
+
+			// Remaining sweep: full circle at 0% progress, empty at 100%
+			double sweepAngle = 360.0 * (PROGRESS_STEPS - step) / PROGRESS_STEPS;
+
+			// Filled pie slice showing remaining time
+			if (settings.fillCircle && sweepAngle > 0)
+			{
+				g.setColor(fillColor);
+				g.fill(new Arc2D.Double(x, y, diameter, diameter, 90, sweepAngle, Arc2D.PIE));
+			}
+
+			// Full circle outline as a reference ring
+			g.setColor(strokeColor);
+			g.setStroke(settings.stroke);
+			g.draw(new Ellipse2D.Double(x, y, diameter, diameter));
+
+			// Arc edge on top of the outline for emphasis
+			if (sweepAngle > 0 && sweepAngle < 360)
+			{
+				g.draw(new Arc2D.Double(x, y, diameter, diameter, 90, sweepAngle, Arc2D.PIE));
+			}
+		}
+		finally
+		{
+			g.dispose();
+		}
+		return image;
+	}
+}
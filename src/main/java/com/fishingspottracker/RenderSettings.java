@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of the display config, rebuilt only when the config group changes.
+ * The render paths read plain fields from here instead of going through the config proxy.
+ */
+class RenderSettings
+{
+	private static final Color BADGE_COLOR = new Color(255, 215, 0);
+
+	final Color freshColor;
+	final Color expiredColor;
+	final Color activeColor;
+
+	/**
+	 * Circle opacity clamped to [0, 255].
+	 */
+	final int alpha;
+
+	/**
+	 * Precomputed fresh-to-expired ramp for stroke, fill and minimap colors.
+	 */
+	final ColorGradient gradient;
+
+	/**
+	 * Active color with {@link #alpha} applied for the circle, plus opaque text colors.
+	 * Text is always drawn opaque, as {@link net.runelite.client.ui.overlay.OverlayUtil#renderTextLocation}
+	 * draws it.
+	 */
+	final Color activeStrokeColor;
+	final Color activeFillColor;
+	final Color activeTextColor;
+	final Color badgeTextColor;
+
+	final int drawDistance;
+	final int circleRadius;
+	final int strokeWidth;
+	final BasicStroke stroke;
+
+	final boolean showCircle;
+	final boolean fillCircle;
+	final boolean showTimer;
+	final boolean showSpotName;
+	final boolean showFishIcon;
+	final boolean showNewestBadge;
+	final boolean highlightNearestFresh;
+	final boolean showStaticSpots;
+	final boolean showMinimapDots;
+	final boolean showMoveChance;
+
+	/**
+	 * Look-ahead, in ticks, for the move chance label.
+	 */
+	final int moveChanceTicks;
+
+	final boolean showDebugOverlay;
+
+	/**
+	 * Lower-cased fish names from the ignore list.
+	 */
+	final Set<String> ignoredFish;
+
+	/**
+	 * Each spot type's display fish under {@link #ignoredFish}, indexed by ordinal; null where
+	 * every fish at the type is ignored.
+	 */
+	final FishingSpotData.Fish[] displayFish;
+
+	private RenderSettings(FishingSpotTrackerConfig config)
+	{
+		freshColor = config.freshColor();
+		expiredColor = config.expiredColor();
+		activeColor = config.activeColor();
+		alpha = Math.max(0, Math.min(255, config.circleOpacity()));
+		gradient = new ColorGradient(freshColor, expiredColor, alpha);
+		activeStrokeColor = withAlpha(activeColor, alpha);
+		activeFillColor = withAlpha(activeColor, Math.max(0, alpha / 3));
+		activeTextColor = withAlpha(activeColor, 255);
+		badgeTextColor = BADGE_COLOR;
+		drawDistance = config.drawDistance();
+		circleRadius = config.circleRadius();
+		strokeWidth = config.strokeWidth();
+		stroke = new BasicStroke(strokeWidth);
+		showCircle = config.showCircle();
+		fillCircle = config.fillCircle();
+		showTimer = config.showTimer();
+		showSpotName = config.showSpotName();
+		showFishIcon = config.showFishIcon();
+		showNewestBadge = config.showNewestBadge();
+		highlightNearestFresh = config.highlightNearestFresh();
+		showStaticSpots = config.showStaticSpots();
+		showMinimapDots = config.showMinimapDots();
+		showMoveChance = config.showMoveChance();
+		moveChanceTicks = config.moveChanceTicks();
+		showDebugOverlay = config.showDebugOverlay();
+		ignoredFish = parseIgnoredFish(config.ignoredFish());
+		displayFish = resolveDisplayFish(ignoredFish);
+	}
+
+	static RenderSettings from(FishingSpotTrackerConfig config)
+	{
+		return new RenderSettings(config);
+	}
+
+	static Color withAlpha(Color color, int alpha)
+	{
+		return new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha);
+	}
+
+	private static FishingSpotData.Fish[] resolveDisplayFish(Set<String> ignoredFish)
+	{
+		FishingSpotData[] types = FishingSpotData.values();
+		FishingSpotData.Fish[] fish = new FishingSpotData.Fish[types.length];
+		for (FishingSpotData type : types)
+		{
+			fish[type.ordinal()] = type.getDisplayFish(ignoredFish);
+		}
+		return fish;
+	}
+
+	private static Set<String> parseIgnoredFish(String configValue)
+	{
+		if (configValue == null || configValue.trim().isEmpty())
+		{
+			return Collections.emptySet();
+		}
+
+		return Arrays.stream(configValue.split(","))
+			.map(String::trim)
+			.filter(s -> !s.isEmpty())
+			.map(String::toLowerCase)
+			.collect(Collectors.toUnmodifiableSet());
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Captures the game inputs the tracker reads, so a session can be replayed through a
+ * {@link SpotTrackerEngine} without the client.
+ *
+ * Each start opens a new capture file in the given directory. Like
+ * {@link SpotEventJournal}, records go through a {@link BatchedRingWriter}, so the client
+ * thread never does I/O. If the file cannot be written, the rest of the capture is
+ * discarded.
+ *
+ * Capture files start with a magic number, a version and the record size, followed by
+ * fixed-size big-endian records: tick (int), three type-specific ints and the record type
+ * (byte) with three reserved bytes. The ints are:
+ * <ul>
+ * <li>{@link #GAME_STATE}: game state ({@code GameState#getState}), world, unused</li>
+ * <li>{@link #SPAWN}, {@link #POSITION}, {@link #DESPAWN}: NPC index, NPC ID, packed tile</li>
+ * <li>{@link #TICK}: player tile, unused, unused</li>
+ * <li>{@link #ANIMATION}: the player's new animation, unused, unused</li>
+ * <li>{@link #INTERACTING}: index of the NPC the player now interacts with (or -1), unused,
+ * unused</li>
+ * </ul>
+ * The positions of tracked spots on a tick are written just before that tick's
+ * {@link #TICK} record.
+ */
+@Slf4j
+class SessionRecorder extends BatchedRingWriter
+{
+	static final byte GAME_STATE = 0;
+	static final byte SPAWN = 1;
+	static final byte DESPAWN = 2;
+	static final byte POSITION = 3;
+	static final byte TICK = 4;
+	static final byte ANIMATION = 5;
+	static final byte INTERACTING = 6;
+
+	static final int MAGIC = 0x46535243; // "FSRC"
+	static final int VERSION = 2;
+	static final int HEADER_BYTES = 12;
+	static final int RECORD_BYTES = 20;
+
+	/**
+	 * A capture stops growing at this size, about a day of play next to a busy spot.
+	 */
+	private static final long MAX_FILE_BYTES = 32L << 20;
+
+	private final File dir;
+
+	// Ring slots, written by the client thread and read by the writer
+	private final int[] ticks = new int[CAPACITY];
+	private final int[] as = new int[CAPACITY];
+	private final int[] bs = new int[CAPACITY];
+	private final int[] cs = new int[CAPACITY];
+	private final byte[] types = new byte[CAPACITY];
+
+	// Writer-only state. The file is null when stopped or after a write failed.
+	private File file;
+	private FileChannel channel;
+
+	SessionRecorder(File dir)
+	{
+		super("Session recorder", RECORD_BYTES);
+		this.dir = dir;
+	}
+
+	/**
+	 * Starts a new capture. Records made while stopped are ignored.
+	 */
+	@Override
+	void start(ScheduledExecutorService executor)
+	{
+		if (isRunning())
+		{
+			return;
+		}
+
+		File capture = new File(dir, "session-" + System.currentTimeMillis() + ".bin");
+		executor.execute(() -> file = capture);
+		super.start(executor);
+	}
+
+	/**
+	 * Queues a record. Called from the client thread; never blocks or does I/O.
+	 */
+	void record(byte type, int tick, int a, int b, int c)
+	{
+		int slot = claim();
+		if (slot < 0)
+		{
+			return;
+		}
+
+		ticks[slot] = tick;
+		as[slot] = a;
+		bs[slot] = b;
+		cs[slot] = c;
+		types[slot] = type;
+		publish();
+	}
+
+	@Override
+	FileChannel writableChannel() throws IOException
+	{
+		if (file == null)
+		{
+			return null;
+		}
+
+		if (channel == null)
+		{
+			open();
+		}
+		return channel.size() < MAX_FILE_BYTES ? channel : null;
+	}
+
+	@Override
+	void encode(int slot, ByteBuffer batch)
+	{
+		batch.putInt(ticks[slot]);
+		batch.putInt(as[slot]);
+		batch.putInt(bs[slot]);
+		batch.putInt(cs[slot]);
+		batch.put(types[slot]);
+		batch.put((byte) 0);
+		batch.putShort((short) 0);
+	}
+
+	@Override
+	void writeFailed(IOException e)
+	{
+		log.warn("Unable to write session capture {}, discarding the rest of it", file, e);
+		close();
+		file = null;
+	}
+
+	@Override
+	void stopped()
+	{
+		close();
+		file = null;
+	}
+
+	private void open() throws IOException
+	{
+		if (!dir.isDirectory() && !dir.mkdirs())
+		{
+			throw new IOException("Unable to create " + dir);
+		}
+
+		channel = FileChannel.open(file.toPath(),
+			StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+		header.putInt(MAGIC).putInt(VERSION).putInt(RECORD_BYTES).flip();
+		while (header.hasRemaining())
+		{
+			channel.write(header);
+		}
+	}
+
+	private void close()
+	{
+		if (channel == null)
+		{
+			return;
+		}
+
+		try
+		{
+			channel.close();
+		}
+		catch (IOException e)
+		{
+			log.debug("Unable to close session capture", e);
+		}
+		channel = null;
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only journal of spot spawns, moves, timer resets and despawns, written through a
+ * {@link BatchedRingWriter} so the client thread never does I/O.
+ *
+ * Journal files start with a magic number, a version and the record size, followed by
+ * fixed-size big-endian records: wall-clock millis (long), tick (int), packed tile (int),
+ * world (short), NPC ID (short), event type (byte), spot type ordinal (byte) and two
+ * reserved bytes. The current file rotates once it passes {@link #MAX_FILE_BYTES}, keeping
+ * {@link #MAX_ROTATED_FILES} older ones.
+ */
+@Slf4j
+class SpotEventJournal extends BatchedRingWriter
+{
+	static final byte SPAWN = 0;
+	static final byte MOVE = 1;
+	static final byte RESET = 2;
+	static final byte DESPAWN = 3;
+
+	static final int MAGIC = 0x46534a4e; // "FSJN"
+	static final int VERSION = 1;
+	static final int HEADER_BYTES = 12;
+	static final int RECORD_BYTES = 24;
+
+	private static final long MAX_FILE_BYTES = 8L << 20;
+	private static final int MAX_ROTATED_FILES = 3;
+
+	private final File file;
+
+	// Ring slots, written by the client thread and read by the writer
+	private final long[] millis = new long[CAPACITY];
+	private final int[] ticks = new int[CAPACITY];
+	private final int[] tiles = new int[CAPACITY];
+	private final short[] worlds = new short[CAPACITY];
+	private final short[] npcIds = new short[CAPACITY];
+	private final byte[] types = new byte[CAPACITY];
+	private final byte[] spotTypes = new byte[CAPACITY];
+
+	// Writer-only state
+	private FileChannel channel;
+
+	SpotEventJournal(File file)
+	{
+		super("Spot event journal", RECORD_BYTES);
+		this.file = file;
+	}
+
+	/**
+	 * Queues an event. Called from the client thread; never blocks or does I/O.
+	 */
+	void record(byte type, int tick, int world, int npcId, int tile, FishingSpotData spotData)
+	{
+		int slot = claim();
+		if (slot < 0)
+		{
+			return;
+		}
+
+		millis[slot] = System.currentTimeMillis();
+		ticks[slot] = tick;
+		tiles[slot] = tile;
+		worlds[slot] = (short) world;
+		npcIds[slot] = (short) npcId;
+		types[slot] = type;
+		spotTypes[slot] = spotData != null ? (byte) spotData.ordinal() : -1;
+		publish();
+	}
+
+	@Override
+	FileChannel writableChannel() throws IOException
+	{
+		if (channel == null || channel.size() >= MAX_FILE_BYTES)
+		{
+			open();
+		}
+		return channel;
+	}
+
+	@Override
+	void encode(int slot, ByteBuffer batch)
+	{
+		batch.putLong(millis[slot]);
+		batch.putInt(ticks[slot]);
+		batch.putInt(tiles[slot]);
+		batch.putShort(worlds[slot]);
+		batch.putShort(npcIds[slot]);
+		batch.put(types[slot]);
+		batch.put(spotTypes[slot]);
+		batch.putShort((short) 0);
+	}
+
+	@Override
+	void writeFailed(IOException e)
+	{
+		log.warn("Unable to write spot event journal {}", file, e);
+		close();
+	}
+
+	@Override
+	void stopped()
+	{
+		close();
+	}
+
+	/**
+	 * Opens the journal for appending, rotating it first if it is full.
+	 */
+	private void open() throws IOException
+	{
+		close();
+
+		File dir = file.getParentFile();
+		if (dir != null && !dir.isDirectory() && !dir.mkdirs())
+		{
+			throw new IOException("Unable to create " + dir);
+		}
+
+		if (file.length() >= MAX_FILE_BYTES)
+		{
+			rotate();
+		}
+
+		channel = FileChannel.open(file.toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		if (channel.size() == 0)
+		{
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+			header.putInt(MAGIC).putInt(VERSION).putInt(RECORD_BYTES).flip();
+			while (header.hasRemaining())
+			{
+				channel.write(header);
+			}
+		}
+	}
+
+	private void rotate() throws IOException
+	{
+		for (int i = MAX_ROTATED_FILES - 1; i >= 0; i--)
+		{
+			File from = i == 0 ? file : rotatedFile(i);
+			if (from.exists())
+			{
+				Files.move(from.toPath(), rotatedFile(i + 1).toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+	}
+
+	private File rotatedFile(int n)
+	{
+		String name = file.getName();
+		int dot = name.lastIndexOf('.');
+		String rotated = dot < 0 ? name + "." + n : name.substring(0, dot) + "." + n + name.substring(dot);
+		return new File(file.getParentFile(), rotated);
+	}
+
+	private void close()
+	{
+		if (channel == null)
+		{
+			return;
+		}
+
+		try
+		{
+			channel.close();
+		}
+		catch (IOException e)
+		{
+			log.debug("Unable to close spot event journal", e);
+		}
+		channel = null;
+	}
+}
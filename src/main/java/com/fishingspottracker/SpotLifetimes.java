@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Learns how long each spot type actually stays on a tile, from lifetimes observed in game.
+ * Each type keeps a streaming median and 95th percentile; once enough lifetimes are seen
+ * they replace the hard-coded range when turning elapsed ticks into progress. Until then
+ * progress is plain {@code elapsed / maxTicks}.
+ *
+ * The learned values are cached per type, so progress costs two array reads.
+ * Client thread only, apart from {@link #copy} snapshots handed to a writer.
+ */
+@Slf4j
+class SpotLifetimes
+{
+	/**
+	 * Lifetimes needed before a type's learned values are trusted.
+	 */
+	static final int MIN_SAMPLES = 10;
+
+	private static final int MAGIC = 0x46534c54; // "FSLT"
+	private static final int VERSION = 1;
+
+	private static final FishingSpotData[] TYPES = FishingSpotData.values();
+
+	private final P2Quantile[] medians = new P2Quantile[TYPES.length];
+	private final P2Quantile[] p95s = new P2Quantile[TYPES.length];
+	private final double[] medianTicks = new double[TYPES.length];
+	private final double[] p95Ticks = new double[TYPES.length];
+
+	SpotLifetimes()
+	{
+		for (int i = 0; i < TYPES.length; i++)
+		{
+			medians[i] = new P2Quantile(0.5);
+			p95s[i] = new P2Quantile(0.95);
+			refresh(i);
+		}
+	}
+
+	/**
+	 * Records a lifetime seen from arrival to departure. Static spots never move, so they
+	 * are not learned.
+	 */
+	void observe(FishingSpotData spotData, int lifetimeTicks)
+	{
+		if (spotData.isStatic() || lifetimeTicks <= 0)
+		{
+			return;
+		}
+
+		int i = spotData.ordinal();
+		medians[i].add(lifetimeTicks);
+		p95s[i].add(lifetimeTicks);
+		refresh(i);
+	}
+
+	long samples(FishingSpotData spotData)
+	{
+		return medians[spotData.ordinal()].count();
+	}
+
+	double medianTicks(FishingSpotData spotData)
+	{
+		return medianTicks[spotData.ordinal()];
+	}
+
+	double p95Ticks(FishingSpotData spotData)
+	{
+		return p95Ticks[spotData.ordinal()];
+	}
+
+	/**
+	 * Ticks after which a spot of this type counts as expired: where {@link #progress} reaches
+	 * 1.0. This is the learned 95th percentile, or {@code maxTicks} until enough are seen.
+	 */
+	int expiryTicks(FishingSpotData spotData)
+	{
+		return (int) Math.ceil(p95Ticks[spotData.ordinal()]);
+	}
+
+	/**
+	 * Maps elapsed ticks onto 0.0-1.0 so the median lifetime lands at 0.5 and the 95th
+	 * percentile at 1.0. With nothing learned this is {@code elapsed / maxTicks}.
+	 */
+	double progress(FishingSpotData spotData, int elapsedTicks)
+	{
+		int i = spotData.ordinal();
+		double median = medianTicks[i];
+		if (elapsedTicks < median)
+		{
+			return 0.5 * elapsedTicks / median;
+		}
+		return Math.min(1.0, 0.5 + 0.5 * (elapsedTicks - median) / (p95Ticks[i] - median));
+	}
+
+	/**
+	 * Takes on sketches from {@code loaded} for every type where they hold more lifetimes than
+	 * this one. Sketches cannot be merged, so the one with more history wins.
+	 */
+	void restoreFrom(SpotLifetimes loaded)
+	{
+		for (int i = 0; i < TYPES.length; i++)
+		{
+			if (medians[i].count() < loaded.medians[i].count())
+			{
+				medians[i].copyFrom(loaded.medians[i]);
+				p95s[i].copyFrom(loaded.p95s[i]);
+				refresh(i);
+			}
+		}
+	}
+
+	SpotLifetimes copy()
+	{
+		SpotLifetimes copy = new SpotLifetimes();
+		copy.restoreFrom(this);
+		return copy;
+	}
+
+	/**
+	 * Writes every type with at least one lifetime, by name so reordering the enum is safe.
+	 */
+	void write(File file) throws IOException
+	{
+		File dir = file.getParentFile();
+		if (dir != null && !dir.isDirectory() && !dir.mkdirs())
+		{
+			throw new IOException("Unable to create " + dir);
+		}
+
+		int learned = 0;
+		for (P2Quantile median : medians)
+		{
+			if (median.count() > 0)
+			{
+				learned++;
+			}
+		}
+
+		File temp = new File(file.getPath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath()))))
+		{
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(learned);
+			for (int i = 0; i < TYPES.length; i++)
+			{
+				if (medians[i].count() > 0)
+				{
+					out.writeUTF(TYPES[i].name());
+					medians[i].write(out);
+					p95s[i].write(out);
+				}
+			}
+		}
+		Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Reads saved sketches. A missing or unreadable file reads as nothing learned.
+	 */
+	static SpotLifetimes read(File file)
+	{
+		SpotLifetimes lifetimes = new SpotLifetimes();
+		if (!file.exists())
+		{
+			return lifetimes;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath()))))
+		{
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+			{
+				return lifetimes;
+			}
+
+			int learned = in.readInt();
+			P2Quantile median = new P2Quantile(0.5);
+			P2Quantile p95 = new P2Quantile(0.95);
+			for (int n = 0; n < learned; n++)
+			{
+				String name = in.readUTF();
+				median.read(in);
+				p95.read(in);
+				for (int i = 0; i < TYPES.length; i++)
+				{
+					if (TYPES[i].name().equals(name))
+					{
+						lifetimes.medians[i].copyFrom(median);
+						lifetimes.p95s[i].copyFrom(p95);
+						lifetimes.refresh(i);
+					}
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			log.warn("Unable to load fishing spot lifetimes from {}", file, e);
+			return new SpotLifetimes();
+		}
+		return lifetimes;
+	}
+
+	private void refresh(int i)
+	{
+		FishingSpotData spotData = TYPES[i];
+		int max = spotData.getMaxTicks();
+		if (medians[i].count() < MIN_SAMPLES)
+		{
+			// Halfway and max give exactly elapsed / maxTicks
+			medianTicks[i] = max / 2.0;
+			p95Ticks[i] = max;
+			return;
+		}
+
+		// Keep learned values sane: median at least 1 tick, p95 strictly above it
+		double median = Math.max(1, medians[i].estimate());
+		medianTicks[i] = median;
+		p95Ticks[i] = Math.max(median + 1, p95s[i].estimate());
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.awt.Color;
+import net.runelite.api.NPC;
+
+/**
+ * Everything the overlays need to draw one tracked spot, computed once per game tick.
+ * Instances belong to a {@link SpotRenderModel} and are refilled when it is reused, so
+ * only the plugin writes them, field by field, and only on the client thread. The overlays
+ * treat them as read-only.
+ */
+class SpotRenderInfo
+{
+	NPC npc;
+	FishingSpotData spotData;
+
+	/**
+	 * Packed world tile of the spot (see {@link WorldTiles}).
+	 */
+	int tile;
+
+	/**
+	 * Lifetime progress in [0, 1], as returned by {@link FishingSpotTrackerPlugin#getSpotProgress}.
+	 */
+	double progress;
+
+	boolean active;
+	boolean newest;
+
+	/**
+	 * Whether this is the closest fresh spot to the player (only set when that highlight is on).
+	 */
+	boolean nearestFresh;
+
+	/**
+	 * Whether the scene overlay draws this spot. False for duplicate NPCs on an
+	 * already-drawn tile and for spots whose fish are all ignored.
+	 */
+	boolean inScene;
+
+	/**
+	 * Whether another NPC on the same tile is drawn in the scene instead of this one.
+	 */
+	boolean duplicate;
+
+	/**
+	 * Opaque ramp or active color for the spot name.
+	 */
+	Color textColor;
+
+	/**
+	 * Opaque ramp color used for the minimap dot.
+	 */
+	Color minimapColor;
+
+	/**
+	 * Text drawn above the circle (timer and/or newest badge), or null for none.
+	 */
+	String timerText;
+	Color timerColor;
+
+	/**
+	 * Text drawn below the circle, or null when spot names are hidden.
+	 */
+	String nameText;
+
+	/**
+	 * Chance the spot moves soon (e.g. "42%"), drawn below the name, or null when hidden.
+	 */
+	String moveChanceText;
+
+	/**
+	 * Fish whose icon is drawn on the spot, or null when icons are hidden.
+	 */
+	FishingSpotData.Fish iconFish;
+
+	/**
+	 * Drops the NPC so an unused entry does not hold on to a despawned spot.
+	 */
+	void clear()
+	{
+		npc = null;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * One tick's {@link SpotRenderInfo}s in a reusable array. The plugin fills two of these in
+ * turn and publishes the one it just filled, so steady-state ticks reuse the same entries
+ * instead of allocating a list and an entry per spot.
+ *
+ * Client thread only. A published model is rewritten two updates later; the overlays render
+ * on the client thread between ticks and do not hold on to it across frames.
+ */
+class SpotRenderModel extends AbstractList<SpotRenderInfo> implements RandomAccess
+{
+	private SpotRenderInfo[] spots = new SpotRenderInfo[16];
+	private int size;
+
+	/**
+	 * Empties the model, keeping its entries for reuse.
+	 */
+	void reset()
+	{
+		for (int i = 0; i < size; i++)
+		{
+			spots[i].clear();
+		}
+		size = 0;
+	}
+
+	/**
+	 * Appends an entry for the caller to fill, reusing one from an earlier tick if there is one.
+	 */
+	SpotRenderInfo append()
+	{
+		if (size == spots.length)
+		{
+			spots = Arrays.copyOf(spots, size * 2);
+		}
+
+		SpotRenderInfo spot = spots[size];
+		if (spot == null)
+		{
+			spot = new SpotRenderInfo();
+			spots[size] = spot;
+		}
+		size++;
+		return spot;
+	}
+
+	@Override
+	public SpotRenderInfo get(int index)
+	{
+		if (index >= size)
+		{
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return spots[index];
+	}
+
+	@Override
+	public int size()
+	{
+		return size;
+	}
+}
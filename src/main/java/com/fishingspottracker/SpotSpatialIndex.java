@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+import net.runelite.api.NPC;
+
+/**
+ * Spatial index of tracked spots, kept up to date as spots spawn, move and despawn.
+ *
+ * Each spot lives in a slot. Slots are chained per tile, so the first spot added to a tile
+ * is its primary and duplicates can be skipped in O(1). They are also chained per coarse
+ * {@link #CELL_SIZE} x {@link #CELL_SIZE} cell, which range and nearest-spot queries walk
+ * instead of scanning every tracked spot.
+ */
+class SpotSpatialIndex
+{
+	static final int CELL_SIZE = 8;
+
+	private static final int CELL_SHIFT = 3;
+	private static final int NONE = -1;
+
+	private NPC[] npcs;
+	private int[] tiles;
+	private int[] nextInTile;
+	private int[] nextInCell;
+	private int freeHead = NONE;
+	private int slotCount;
+
+	private final IntIntMap slotByNpcIndex = new IntIntMap(64);
+	private final IntIntMap tileHead = new IntIntMap(64);
+	private final IntIntMap cellHead = new IntIntMap(32);
+
+	/**
+	 * Scratch buffers for {@link #nearest}.
+	 */
+	private int[] bestDistances = new int[4];
+
+	SpotSpatialIndex()
+	{
+		allocate(64);
+	}
+
+	int size()
+	{
+		return slotByNpcIndex.size();
+	}
+
+	/**
+	 * Adds a spot at the given packed tile, or moves it there if it is already indexed.
+	 */
+	void put(NPC npc, int tile)
+	{
+		int slot = slotByNpcIndex.get(npc.getIndex());
+		if (slot != IntIntMap.NO_VALUE)
+		{
+			if (tiles[slot] == tile && npcs[slot] == npc)
+			{
+				return;
+			}
+			unlink(slot);
+		}
+		else
+		{
+			slot = allocateSlot();
+			slotByNpcIndex.put(npc.getIndex(), slot);
+		}
+
+		npcs[slot] = npc;
+		tiles[slot] = tile;
+		link(slot);
+	}
+
+	void remove(NPC npc)
+	{
+		int slot = slotByNpcIndex.remove(npc.getIndex());
+		if (slot == IntIntMap.NO_VALUE)
+		{
+			return;
+		}
+
+		unlink(slot);
+		npcs[slot] = null;
+		nextInTile[slot] = freeHead;
+		freeHead = slot;
+	}
+
+	void clear()
+	{
+		Arrays.fill(npcs, null);
+		slotByNpcIndex.clear();
+		tileHead.clear();
+		cellHead.clear();
+		freeHead = NONE;
+		slotCount = 0;
+	}
+
+	/**
+	 * Whether the spot is the first one indexed on its tile. Unindexed spots are never primary.
+	 */
+	boolean isPrimary(NPC npc)
+	{
+		int slot = slotByNpcIndex.get(npc.getIndex());
+		return slot != IntIntMap.NO_VALUE && tileHead.get(tiles[slot]) == slot;
+	}
+
+	/**
+	 * Collects the primary spot of every tile within {@code radius} tiles (Chebyshev) of the
+	 * given tile into {@code out}, up to its length. Returns the number collected.
+	 */
+	int inRange(int tile, int radius, NPC[] out)
+	{
+		int count = 0;
+		int plane = WorldTiles.plane(tile);
+		int minCx = (WorldTiles.x(tile) - radius) >> CELL_SHIFT;
+		int maxCx = (WorldTiles.x(tile) + radius) >> CELL_SHIFT;
+		int minCy = (WorldTiles.y(tile) - radius) >> CELL_SHIFT;
+		int maxCy = (WorldTiles.y(tile) + radius) >> CELL_SHIFT;
+
+		for (int cx = minCx; cx <= maxCx; cx++)
+		{
+			for (int cy = minCy; cy <= maxCy; cy++)
+			{
+				for (int slot = cellHead.get(WorldTiles.pack(cx, cy, plane)); slot != NONE; slot = nextInCell[slot])
+				{
+					if (count == out.length)
+					{
+						return count;
+					}
+					if (tileHead.get(tiles[slot]) == slot && WorldTiles.distance(tile, tiles[slot]) <= radius)
+					{
+						out[count++] = npcs[slot];
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Finds up to {@code out.length} primary spots nearest to the given tile that pass the
+	 * filter and are within {@code maxDistance} tiles, nearest first. Returns the number found.
+	 */
+	int nearest(int tile, int maxDistance, Predicate<NPC> filter, NPC[] out)
+	{
+		int k = out.length;
+		if (k == 0)
+		{
+			return 0;
+		}
+		if (bestDistances.length < k)
+		{
+			bestDistances = new int[k];
+		}
+
+		int found = 0;
+		int plane = WorldTiles.plane(tile);
+		int originCx = WorldTiles.x(tile) >> CELL_SHIFT;
+		int originCy = WorldTiles.y(tile) >> CELL_SHIFT;
+		int maxRing = (maxDistance >> CELL_SHIFT) + 1;
+
+		for (int ring = 0; ring <= maxRing; ring++)
+		{
+			// Every spot in this ring or beyond is at least (ring - 1) * CELL_SIZE + 1 tiles away
+			if (found == k && bestDistances[k - 1] <= (ring - 1) * CELL_SIZE)
+			{
+				break;
+			}
+
+			for (int cx = originCx - ring; cx <= originCx + ring; cx++)
+			{
+				boolean edgeColumn = cx == originCx - ring || cx == originCx + ring;
+				int step = edgeColumn ? 1 : Math.max(1, ring * 2);
+				for (int cy = originCy - ring; cy <= originCy + ring; cy += step)
+				{
+					for (int slot = cellHead.get(WorldTiles.pack(cx, cy, plane)); slot != NONE; slot = nextInCell[slot])
+					{
+						if (tileHead.get(tiles[slot]) != slot)
+						{
+							continue;
+						}
+
+						int distance = WorldTiles.distance(tile, tiles[slot]);
+						if (distance > maxDistance || (found == k && distance >= bestDistances[k - 1])
+							|| !filter.test(npcs[slot]))
+						{
+							continue;
+						}
+
+						// Insertion into the sorted best-k buffer
+						int pos = found < k ? found++ : k - 1;
+						while (pos > 0 && bestDistances[pos - 1] > distance)
+						{
+							bestDistances[pos] = bestDistances[pos - 1];
+							out[pos] = out[pos - 1];
+							pos--;
+						}
+						bestDistances[pos] = distance;
+						out[pos] = npcs[slot];
+					}
+				}
+			}
+		}
+		return found;
+	}
+
+	private int allocateSlot()
+	{
+		if (freeHead != NONE)
+		{
+			int slot = freeHead;
+			freeHead = nextInTile[slot];
+			return slot;
+		}
+
+		if (slotCount == npcs.length)
+		{
+			allocate(npcs.length * 2);
+		}
+		return slotCount++;
+	}
+
+	private void allocate(int capacity)
+	{
+		npcs = npcs == null ? new NPC[capacity] : Arrays.copyOf(npcs, capacity);
+		tiles = tiles == null ? new int[capacity] : Arrays.copyOf(tiles, capacity);
+		nextInTile = nextInTile == null ? new int[capacity] : Arrays.copyOf(nextInTile, capacity);
+		nextInCell = nextInCell == null ? new int[capacity] : Arrays.copyOf(nextInCell, capacity);
+	}
+
+	private void link(int slot)
+	{
+		int tile = tiles[slot];
+
+		// Append to the tile chain so the existing primary keeps its place
+		nextInTile[slot] = NONE;
+		int head = tileHead.get(tile);
+		if (head == IntIntMap.NO_VALUE)
+		{
+			tileHead.put(tile, slot);
+		}
+		else
+		{
+			int last = head;
+			while (nextInTile[last] != NONE)
+			{
+				last = nextInTile[last];
+			}
+			nextInTile[last] = slot;
+		}
+
+		int cell = cellOf(tile);
+		int cellFirst = cellHead.get(cell);
+		nextInCell[slot] = cellFirst == IntIntMap.NO_VALUE ? NONE : cellFirst;
+		cellHead.put(cell, slot);
+	}
+
+	private void unlink(int slot)
+	{
+		int tile = tiles[slot];
+		int head = tileHead.get(tile);
+		if (head == slot)
+		{
+			if (nextInTile[slot] == NONE)
+			{
+				tileHead.remove(tile);
+			}
+			else
+			{
+				tileHead.put(tile, nextInTile[slot]);
+			}
+		}
+		else
+		{
+			int prev = head;
+			while (nextInTile[prev] != slot)
+			{
+				prev = nextInTile[prev];
+			}
+			nextInTile[prev] = nextInTile[slot];
+		}
+
+		int cell = cellOf(tile);
+		int cellFirst = cellHead.get(cell);
+		if (cellFirst == slot)
+		{
+			if (nextInCell[slot] == NONE)
+			{
+				cellHead.remove(cell);
+			}
+			else
+			{
+				cellHead.put(cell, nextInCell[slot]);
+			}
+		}
+		else
+		{
+			int prev = cellFirst;
+			while (nextInCell[prev] != slot)
+			{
+				prev = nextInCell[prev];
+			}
+			nextInCell[prev] = nextInCell[slot];
+		}
+	}
+
+	private static int cellOf(int tile)
+	{
+		return WorldTiles.pack(WorldTiles.x(tile) >> CELL_SHIFT, WorldTiles.y(tile) >> CELL_SHIFT, WorldTiles.plane(tile));
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed "chance this spot moves soon" tables, one per spot type.
+ *
+ * A type's lifetime is modelled as a piecewise-linear distribution: uniform over
+ * {@code minTicks}-{@code maxTicks} until {@link SpotLifetimes} has learned it, then through
+ * the learned median and 95th percentile. From its survival curve S(t), the chance of moving
+ * within the next N ticks after lasting t ticks is {@code 1 - S(t + N) / S(t)}. That is stored
+ * as a whole percentage per elapsed tick, so a lookup is a single array read.
+ *
+ * Tables are built on first use and dropped when a type's lifetimes or the horizon change.
+ * Client thread only.
+ */
+class SpotSurvival
+{
+	private static final FishingSpotData[] TYPES = FishingSpotData.values();
+
+	private static final String[] PERCENT_LABELS = new String[101];
+
+	static
+	{
+		for (int i = 0; i < PERCENT_LABELS.length; i++)
+		{
+			PERCENT_LABELS[i] = i + "%";
+		}
+	}
+
+	private final SpotLifetimes lifetimes;
+	private final byte[][] tables = new byte[TYPES.length][];
+	private int horizonTicks;
+
+	SpotSurvival(SpotLifetimes lifetimes)
+	{
+		this.lifetimes = lifetimes;
+	}
+
+	/**
+	 * Returns the chance, in percent, that a spot which has lasted {@code elapsedTicks} moves
+	 * within the next {@code horizonTicks}. Static spots never move; spots past the end of
+	 * their modelled lifetime are overdue and read as 100.
+	 */
+	int moveChance(FishingSpotData spotData, int elapsedTicks, int horizonTicks)
+	{
+		if (spotData.isStatic())
+		{
+			return 0;
+		}
+
+		if (horizonTicks != this.horizonTicks)
+		{
+			Arrays.fill(tables, null);
+			this.horizonTicks = horizonTicks;
+		}
+
+		int i = spotData.ordinal();
+		byte[] table = tables[i];
+		if (table == null)
+		{
+			table = build(spotData, horizonTicks);
+			tables[i] = table;
+		}
+		return elapsedTicks < table.length ? table[Math.max(0, elapsedTicks)] : 100;
+	}
+
+	/**
+	 * Returns a shared label such as "42%" for a {@link #moveChance} result.
+	 */
+	static String label(int percent)
+	{
+		return PERCENT_LABELS[percent];
+	}
+
+	/**
+	 * Drops the table for a type whose learned lifetimes changed.
+	 */
+	void invalidate(FishingSpotData spotData)
+	{
+		tables[spotData.ordinal()] = null;
+	}
+
+	void invalidateAll()
+	{
+		Arrays.fill(tables, null);
+	}
+
+	private byte[] build(FishingSpotData spotData, int horizon)
+	{
+		double[] ticks;
+		double[] cdf;
+		if (lifetimes.samples(spotData) < SpotLifetimes.MIN_SAMPLES)
+		{
+			ticks = new double[]{spotData.getMinTicks(), spotData.getMaxTicks()};
+			cdf = new double[]{0, 1};
+		}
+		else
+		{
+			// Start no later than halfway to the median, and spread the last 5% past the
+			// 95th percentile at the same rate as the 45% before it
+			double median = lifetimes.medianTicks(spotData);
+			double p95 = lifetimes.p95Ticks(spotData);
+			double start = Math.min(spotData.getMinTicks(), median / 2);
+			double end = p95 + (p95 - median) * (0.05 / 0.45);
+			ticks = new double[]{start, median, p95, end};
+			cdf = new double[]{0, 0.5, 0.95, 1};
+		}
+
+		byte[] table = new byte[(int) Math.ceil(ticks[ticks.length - 1]) + 1];
+		for (int t = 0; t < table.length; t++)
+		{
+			double survived = survival(ticks, cdf, t);
+			double chance = survived > 0 ? 1 - survival(ticks, cdf, t + horizon) / survived : 1;
+			table[t] = (byte) Math.round(chance * 100);
+		}
+		return table;
+	}
+
+	private static double survival(double[] ticks, double[] cdf, double t)
+	{
+		if (t <= ticks[0])
+		{
+			return 1;
+		}
+
+		for (int k = 1; k < ticks.length; k++)
+		{
+			if (t < ticks[k])
+			{
+				double f = (t - ticks[k - 1]) / (ticks[k] - ticks[k - 1]);
+				return 1 - (cdf[k - 1] + f * (cdf[k] - cdf[k - 1]));
+			}
+		}
+		return 0;
+	}
+}
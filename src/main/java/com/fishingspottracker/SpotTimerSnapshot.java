@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.api.Constants;
+
+/**
+ * Immutable set of known spot spawn times, keyed by world, tile and NPC ID. Spawn times are
+ * wall-clock millis so they stay meaningful across sessions, unlike client ticks.
+ */
+final class SpotTimerSnapshot
+{
+	static final long NO_TIME = Long.MIN_VALUE;
+
+	static final SpotTimerSnapshot EMPTY = new SpotTimerSnapshot(new long[0], new long[0]);
+
+	/**
+	 * Sorted ascending, for binary search.
+	 */
+	private final long[] keys;
+	private final long[] spawnMillis;
+
+	/**
+	 * Wraps the arrays without copying. The keys must be sorted ascending and unique.
+	 */
+	SpotTimerSnapshot(long[] keys, long[] spawnMillis)
+	{
+		this.keys = keys;
+		this.spawnMillis = spawnMillis;
+	}
+
+	int size()
+	{
+		return keys.length;
+	}
+
+	long keyAt(int i)
+	{
+		return keys[i];
+	}
+
+	long spawnMillisAt(int i)
+	{
+		return spawnMillis[i];
+	}
+
+	/**
+	 * Returns when the spot at the tile spawned, or {@link #NO_TIME} if unknown.
+	 */
+	long spawnMillis(int world, int tile, int npcId)
+	{
+		int i = Arrays.binarySearch(keys, key(world, tile, npcId));
+		return i >= 0 ? spawnMillis[i] : NO_TIME;
+	}
+
+	/**
+	 * Returns this snapshot overlaid with the observed spawn times, dropping every entry
+	 * that has outlived its spot type's lifetime.
+	 */
+	SpotTimerSnapshot merge(Builder observed, long nowMillis)
+	{
+		Map<Long, Long> merged = new HashMap<>(keys.length + observed.size);
+		for (int i = 0; i < keys.length; i++)
+		{
+			merged.put(keys[i], spawnMillis[i]);
+		}
+		for (int i = 0; i < observed.size; i++)
+		{
+			merged.put(observed.keys[i], observed.spawnMillis[i]);
+		}
+		merged.entrySet().removeIf(e -> isExpired(e.getKey(), e.getValue(), nowMillis));
+
+		long[] mergedKeys = new long[merged.size()];
+		int n = 0;
+		for (long key : merged.keySet())
+		{
+			mergedKeys[n++] = key;
+		}
+		Arrays.sort(mergedKeys);
+
+		long[] mergedMillis = new long[mergedKeys.length];
+		for (int i = 0; i < mergedKeys.length; i++)
+		{
+			mergedMillis[i] = merged.get(mergedKeys[i]);
+		}
+		return new SpotTimerSnapshot(mergedKeys, mergedMillis);
+	}
+
+	private static boolean isExpired(long key, long spawnMillis, long nowMillis)
+	{
+		FishingSpotData spotData = FishingSpotData.findSpot(npcId(key));
+		return spotData == null
+			|| nowMillis - spawnMillis > (long) spotData.getMaxTicks() * Constants.GAME_TICK_LENGTH;
+	}
+
+	/**
+	 * Packs the tile into the high 32 bits, then 16 bits each of world and NPC ID.
+	 */
+	static long key(int world, int tile, int npcId)
+	{
+		return (long) tile << 32 | (long) (world & 0xFFFF) << 16 | (npcId & 0xFFFF);
+	}
+
+	static int npcId(long key)
+	{
+		return (int) (key & 0xFFFF);
+	}
+
+	/**
+	 * Collects observed spawn times for {@link #merge}. Later additions for the same key win.
+	 */
+	static final class Builder
+	{
+		private long[] keys = new long[64];
+		private long[] spawnMillis = new long[64];
+		private int size;
+
+		void add(int world, int tile, int npcId, long spawnMillis)
+		{
+			if (size == keys.length)
+			{
+				keys = Arrays.copyOf(keys, size * 2);
+				this.spawnMillis = Arrays.copyOf(this.spawnMillis, size * 2);
+			}
+			keys[size] = key(world, tile, npcId);
+			this.spawnMillis[size] = spawnMillis;
+			size++;
+		}
+
+		int size()
+		{
+			return size;
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persists a {@link SpotTimerSnapshot} to a small binary file so spot timers survive
+ * logouts and client restarts. Loading and saving do file I/O, so call them off the
+ * client thread; {@link #peek} is safe from any thread.
+ *
+ * File layout, big-endian: magic, version, entry count, CRC32 of the entries, then one
+ * (key, spawn millis) pair of longs per entry. Saves write the entries through a mapped
+ * buffer before the header, so a save cut short leaves a header that fails its check
+ * rather than a half-written snapshot that passes. The file is never truncated, since
+ * some platforms refuse to shrink a file that is still mapped; the header says how much
+ * of it is valid.
+ */
+@Slf4j
+class SpotTimerStore
+{
+	private static final int MAGIC = 0x46535454; // "FSTT"
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 16;
+	private static final int ENTRY_BYTES = 16;
+
+	private final File file;
+
+	private volatile SpotTimerSnapshot snapshot;
+
+	SpotTimerStore(File file)
+	{
+		this.file = file;
+	}
+
+	/**
+	 * Returns the loaded snapshot, or null if {@link #load} has not finished yet.
+	 */
+	SpotTimerSnapshot peek()
+	{
+		return snapshot;
+	}
+
+	/**
+	 * Reads the file on first call and returns the snapshot. A missing or unreadable file
+	 * loads as empty.
+	 */
+	synchronized SpotTimerSnapshot load()
+	{
+		if (snapshot == null)
+		{
+			snapshot = read();
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Merges the observed spawn times into the stored snapshot and writes the result.
+	 */
+	synchronized void save(SpotTimerSnapshot.Builder observed, long nowMillis)
+	{
+		SpotTimerSnapshot merged = load().merge(observed, nowMillis);
+		snapshot = merged;
+		try
+		{
+			write(merged);
+		}
+		catch (IOException e)
+		{
+			log.warn("Unable to save fishing spot timers to {}", file, e);
+		}
+	}
+
+	private SpotTimerSnapshot read()
+	{
+		if (!file.exists())
+		{
+			return SpotTimerSnapshot.EMPTY;
+		}
+
+		try
+		{
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+			if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+			{
+				log.debug("Ignoring fishing spot timer file with an unknown format");
+				return SpotTimerSnapshot.EMPTY;
+			}
+
+			int count = buffer.getInt();
+			int checksum = buffer.getInt();
+			if (count < 0 || count > buffer.remaining() / ENTRY_BYTES)
+			{
+				return SpotTimerSnapshot.EMPTY;
+			}
+
+			ByteBuffer entries = buffer.slice();
+			entries.limit(count * ENTRY_BYTES);
+			if (checksum(entries) != checksum)
+			{
+				log.debug("Ignoring fishing spot timer file with a bad checksum");
+				return SpotTimerSnapshot.EMPTY;
+			}
+
+			long[] keys = new long[count];
+			long[] spawnMillis = new long[count];
+			for (int i = 0; i < count; i++)
+			{
+				keys[i] = entries.getLong();
+				spawnMillis[i] = entries.getLong();
+				if (i > 0 && keys[i] <= keys[i - 1])
+				{
+					return SpotTimerSnapshot.EMPTY;
+				}
+			}
+			return new SpotTimerSnapshot(keys, spawnMillis);
+		}
+		catch (IOException e)
+		{
+			log.warn("Unable to load fishing spot timers from {}", file, e);
+			return SpotTimerSnapshot.EMPTY;
+		}
+	}
+
+	private void write(SpotTimerSnapshot snapshot) throws IOException
+	{
+		File dir = file.getParentFile();
+		if (dir != null && !dir.isDirectory() && !dir.mkdirs())
+		{
+			throw new IOException("Unable to create " + dir);
+		}
+
+		int count = snapshot.size();
+		try (FileChannel channel = FileChannel.open(file.toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE))
+		{
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+				HEADER_BYTES + (long) count * ENTRY_BYTES);
+
+			// Invalidate the old header first, then write entries, then the new header
+			buffer.putInt(0, 0);
+			buffer.force();
+
+			buffer.position(HEADER_BYTES);
+			ByteBuffer entries = buffer.slice();
+			for (int i = 0; i < count; i++)
+			{
+				entries.putLong(snapshot.keyAt(i));
+				entries.putLong(snapshot.spawnMillisAt(i));
+			}
+			entries.flip();
+			int checksum = checksum(entries);
+			buffer.force();
+
+			buffer.putInt(4, VERSION);
+			buffer.putInt(8, count);
+			buffer.putInt(12, checksum);
+			buffer.putInt(0, MAGIC);
+			buffer.force();
+		}
+	}
+
+	private static int checksum(ByteBuffer entries)
+	{
+		CRC32 crc = new CRC32();
+		crc.update(entries.duplicate());
+		return (int) crc.getValue();
+	}
+}
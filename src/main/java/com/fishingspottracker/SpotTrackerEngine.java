@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.util.List;
+import net.runelite.api.Actor;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+
+/**
+ * The tracker's state machine, driven by game events. Implementations read everything else
+ * (tick count, player, NPC positions) from their {@link net.runelite.api.Client}, so the same
+ * engine runs against the live client or a stub fed from a {@link SessionRecorder} capture.
+ *
+ * The plugin is the only implementation. Its event handlers capture sessions, save state on
+ * logout and send notifications before calling in. The engine methods themselves still
+ * restore saved timers, learn spot lifetimes and write the {@link SpotEventJournal}, so a
+ * replay leaves the timer store unloaded and the journal stopped to keep those inert.
+ */
+interface SpotTrackerEngine
+{
+	void npcSpawned(NPC npc);
+
+	void npcDespawned(NPC npc);
+
+	/**
+	 * Advances one game tick, after the client has updated NPC positions.
+	 */
+	void gameTick();
+
+	void gameStateChanged(GameState state);
+
+	/**
+	 * The local player's animation changed.
+	 */
+	void playerAnimationChanged(int animation);
+
+	/**
+	 * The local player started interacting with {@code target}, or stopped for null.
+	 */
+	void playerInteractingChanged(Actor target);
+
+	/**
+	 * Per-spot draw state as of the last tick.
+	 */
+	List<SpotRenderInfo> getRenderModel();
+}
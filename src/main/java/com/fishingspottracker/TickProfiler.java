@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+/**
+ * Times each {@link TickPhase} into its own {@link LatencyHistogram}. While disabled every
+ * call returns straight away, so the tick code can leave its laps in place.
+ *
+ * Client thread only; the render thread reads {@link TickProfile} snapshots instead.
+ */
+class TickProfiler
+{
+	private static final TickPhase[] PHASES = TickPhase.values();
+
+	private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+	private boolean enabled;
+
+	TickProfiler()
+	{
+		for (int i = 0; i < histograms.length; i++)
+		{
+			histograms[i] = new LatencyHistogram();
+		}
+	}
+
+	boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	/**
+	 * Turns timing on or off. Turning it on starts from empty histograms.
+	 */
+	void setEnabled(boolean enabled)
+	{
+		if (enabled && !this.enabled)
+		{
+			for (LatencyHistogram histogram : histograms)
+			{
+				histogram.reset();
+			}
+		}
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns the time to pass to the first {@link #lap}.
+	 */
+	long start()
+	{
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records the time since {@code since} against {@code phase}, and returns now for the
+	 * next lap.
+	 */
+	long lap(TickPhase phase, long since)
+	{
+		if (!enabled)
+		{
+			return 0;
+		}
+
+		long now = System.nanoTime();
+		histograms[phase.ordinal()].record(now - since);
+		return now;
+	}
+
+	TickProfile snapshot(int trackedSpots, int cachedSpots)
+	{
+		long[] p50 = new long[PHASES.length];
+		long[] p99 = new long[PHASES.length];
+		long[] max = new long[PHASES.length];
+		for (int i = 0; i < PHASES.length; i++)
+		{
+			p50[i] = histograms[i].percentile(0.5);
+			p99[i] = histograms[i].percentile(0.99);
+			max[i] = histograms[i].max();
+		}
+		return new TickProfile(p50, p99, max, histograms[TickPhase.TOTAL.ordinal()].count(), trackedSpots, cachedSpots);
+	}
+}
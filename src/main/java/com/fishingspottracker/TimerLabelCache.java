@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+/**
+ * Lazily-filled table of timer labels indexed by elapsed seconds and flag combination,
+ * so each label is formatted once and then reused for every spot that shows it.
+ */
+class TimerLabelCache
+{
+	/**
+	 * Labels are cached up to one hour; only static spots ever run past this.
+	 */
+	static final int MAX_CACHED_SECONDS = 3600;
+
+	static final String NEWEST_BADGE = "\u2605";
+
+	private static final int FLAG_UNPREDICTABLE = 1;
+	private static final int FLAG_NEWEST = 2;
+
+	private final String[][] labels = new String[4][];
+
+	/**
+	 * Returns the timer text for a spot, e.g. "2:35", "0:41 (?)" or "★ 1:02".
+	 */
+	String get(int elapsedTicks, boolean unpredictable, boolean newest)
+	{
+		int elapsedSeconds = Math.max(0, elapsedTicks * 600 / 1000);
+		int flags = (unpredictable ? FLAG_UNPREDICTABLE : 0) | (newest ? FLAG_NEWEST : 0);
+		if (elapsedSeconds > MAX_CACHED_SECONDS)
+		{
+			return format(elapsedSeconds, flags);
+		}
+
+		String[] table = labels[flags];
+		if (table == null)
+		{
+			table = new String[MAX_CACHED_SECONDS + 1];
+			labels[flags] = table;
+		}
+
+		String label = table[elapsedSeconds];
+		if (label == null)
+		{
+			label = format(elapsedSeconds, flags);
+			table[elapsedSeconds] = label;
+		}
+		return label;
+	}
+
+	private static String format(int elapsedSeconds, int flags)
+	{
+		int minutes = elapsedSeconds / 60;
+		int seconds = elapsedSeconds % 60;
+
+		StringBuilder sb = new StringBuilder(16);
+		if ((flags & FLAG_NEWEST) != 0)
+		{
+			sb.append(NEWEST_BADGE).append(' ');
+		}
+		sb.append(minutes).append(':');
+		if (seconds < 10)
+		{
+			sb.append('0');
+		}
+		sb.append(seconds);
+		if ((flags & FLAG_UNPREDICTABLE) != 0)
+		{
+			sb.append(" (?)");
+		}
+		return sb.toString();
+	}
+}
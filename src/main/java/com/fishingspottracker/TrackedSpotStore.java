@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.util.Arrays;
+import net.runelite.api.NPC;
+
+/**
+ * Tracked fishing spots with their spawn tick, packed tile and whether the spot was seen
+ * arriving on that tile (so its lifetime can be measured), held in parallel arrays and
+ * keyed by NPC index so per-tick updates neither allocate nor hash NPC objects.
+ *
+ * Spots occupy positions {@code 0..size()-1}. Removing one moves the last spot into its
+ * position, so loops that remove while iterating should walk backwards.
+ */
+class TrackedSpotStore
+{
+	private NPC[] npcs = new NPC[64];
+	private int[] spawnTicks = new int[64];
+	private int[] tiles = new int[64];
+	private boolean[] arrivalSeen = new boolean[64];
+	private int size;
+
+	private final IntIntMap positionByNpcIndex = new IntIntMap(64);
+
+	int size()
+	{
+		return size;
+	}
+
+	boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	NPC npc(int pos)
+	{
+		return npcs[pos];
+	}
+
+	int spawnTick(int pos)
+	{
+		return spawnTicks[pos];
+	}
+
+	int tile(int pos)
+	{
+		return tiles[pos];
+	}
+
+	boolean arrivalSeen(int pos)
+	{
+		return arrivalSeen[pos];
+	}
+
+	/**
+	 * Returns the position of the spot, or -1 if it is not tracked.
+	 */
+	int indexOf(NPC npc)
+	{
+		int pos = positionByNpcIndex.get(npc.getIndex());
+		return pos != IntIntMap.NO_VALUE && npcs[pos] == npc ? pos : -1;
+	}
+
+	/**
+	 * Tracks the spot, replacing whatever was tracked under its NPC index.
+	 */
+	void put(NPC npc, int spawnTick, int tile, boolean arrivalSeen)
+	{
+		int pos = positionByNpcIndex.get(npc.getIndex());
+		if (pos == IntIntMap.NO_VALUE)
+		{
+			if (size == npcs.length)
+			{
+				int capacity = size * 2;
+				npcs = Arrays.copyOf(npcs, capacity);
+				spawnTicks = Arrays.copyOf(spawnTicks, capacity);
+				tiles = Arrays.copyOf(tiles, capacity);
+				this.arrivalSeen = Arrays.copyOf(this.arrivalSeen, capacity);
+			}
+			pos = size++;
+			positionByNpcIndex.put(npc.getIndex(), pos);
+		}
+
+		npcs[pos] = npc;
+		spawnTicks[pos] = spawnTick;
+		tiles[pos] = tile;
+		this.arrivalSeen[pos] = arrivalSeen;
+	}
+
+	/**
+	 * Restarts the spot's timer at the given tick and tile.
+	 */
+	void reset(int pos, int spawnTick, int tile, boolean arrivalSeen)
+	{
+		spawnTicks[pos] = spawnTick;
+		tiles[pos] = tile;
+		this.arrivalSeen[pos] = arrivalSeen;
+	}
+
+	void removeAt(int pos)
+	{
+		positionByNpcIndex.remove(npcs[pos].getIndex());
+
+		int last = --size;
+		if (pos != last)
+		{
+			npcs[pos] = npcs[last];
+			spawnTicks[pos] = spawnTicks[last];
+			tiles[pos] = tiles[last];
+			arrivalSeen[pos] = arrivalSeen[last];
+			positionByNpcIndex.put(npcs[pos].getIndex(), pos);
+		}
+		npcs[last] = null;
+	}
+
+	void clear()
+	{
+		Arrays.fill(npcs, 0, size, null);
+		positionByNpcIndex.clear();
+		size = 0;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Packs a world tile (x, y, plane) into a single int: 15 bits each for x and y and
+ * 2 bits for the plane. Packed tiles compare and hash as plain ints.
+ */
+final class WorldTiles
+{
+	/**
+	 * Marker for "no tile". Unpacks to (32767, 32767) on plane 3, far outside the game world.
+	 */
+	static final int NO_TILE = -1;
+
+	private static final int COORD_BITS = 15;
+	private static final int COORD_MASK = (1 << COORD_BITS) - 1;
+
+	private WorldTiles()
+	{
+	}
+
+	static int pack(int x, int y, int plane)
+	{
+		return (plane & 3) << (COORD_BITS * 2) | (y & COORD_MASK) << COORD_BITS | (x & COORD_MASK);
+	}
+
+	static int pack(WorldPoint wp)
+	{
+		return pack(wp.getX(), wp.getY(), wp.getPlane());
+	}
+
+	/**
+	 * Packs the tile under a local point in the given world view, without the
+	 * {@link WorldPoint} that {@code WorldPoint.fromLocal} would allocate.
+	 */
+	static int pack(WorldView view, LocalPoint localPoint)
+	{
+		return pack(view.getBaseX() + localPoint.getSceneX(), view.getBaseY() + localPoint.getSceneY(), view.getPlane());
+	}
+
+	static int x(int tile)
+	{
+		return tile & COORD_MASK;
+	}
+
+	static int y(int tile)
+	{
+		return (tile >>> COORD_BITS) & COORD_MASK;
+	}
+
+	static int plane(int tile)
+	{
+		return tile >>> (COORD_BITS * 2);
+	}
+
+	static WorldPoint toWorldPoint(int tile)
+	{
+		return new WorldPoint(x(tile), y(tile), plane(tile));
+	}
+
+	/**
+	 * Chebyshev (king-move) distance between two packed tiles, or Integer.MAX_VALUE
+	 * if they are on different planes.
+	 */
+	static int distance(int a, int b)
+	{
+		if (plane(a) != plane(b))
+		{
+			return Integer.MAX_VALUE;
+		}
+		return Math.max(Math.abs(x(a) - x(b)), Math.abs(y(a) - y(b)));
+	}
+}
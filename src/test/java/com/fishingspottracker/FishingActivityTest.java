@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import net.runelite.api.NPC;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class FishingActivityTest
+{
+	private static final int NET_FISHING = 621;
+	private static final int IDLE = -1;
+
+	@Test
+	public void stopIsReportedOnceAnimationAndInteractionEnd()
+	{
+		FishingActivity activity = fishingAt(BenchmarkStubs.spotNpc(1));
+
+		activity.animationChanged(IDLE);
+		activity.interactingChanged(null);
+		assertTrue(activity.pollStopped());
+		assertFalse(activity.pollStopped());
+	}
+
+	@Test
+	public void stopIsReportedWhenInteractionClearsOnALaterTick()
+	{
+		FishingActivity activity = fishingAt(BenchmarkStubs.spotNpc(1));
+
+		// The animation stops first while the player is still on the spot
+		activity.animationChanged(IDLE);
+		assertFalse(activity.pollStopped());
+
+		activity.interactingChanged(null);
+		assertTrue(activity.pollStopped());
+		assertFalse(activity.pollStopped());
+	}
+
+	@Test
+	public void stopIsReportedAfterGraceWindowWhileInteractionStays()
+	{
+		FishingActivity activity = fishingAt(BenchmarkStubs.spotNpc(1));
+
+		// The player stays interacting with the spot but no longer fishes it
+		activity.animationChanged(IDLE);
+		for (int tick = 1; tick < FishingActivity.STOP_GRACE_TICKS; tick++)
+		{
+			assertFalse(activity.pollStopped());
+		}
+		assertTrue(activity.pollStopped());
+		assertFalse(activity.pollStopped());
+	}
+
+	@Test
+	public void animationGapBetweenCatchesIsNotAStop()
+	{
+		FishingActivity activity = fishingAt(BenchmarkStubs.spotNpc(1));
+
+		activity.animationChanged(IDLE);
+		assertFalse(activity.pollStopped());
+		activity.animationChanged(NET_FISHING);
+		assertFalse(activity.pollStopped());
+
+		// Leaving the spot later while still animating is not a stop either
+		activity.interactingChanged(null);
+		assertFalse(activity.pollStopped());
+	}
+
+	@Test
+	public void despawnedSpotEndsTheInteraction()
+	{
+		NPC spot = BenchmarkStubs.spotNpc(1);
+		FishingActivity activity = fishingAt(spot);
+
+		activity.animationChanged(IDLE);
+		assertFalse(activity.pollStopped());
+
+		activity.npcDespawned(spot);
+		assertTrue(activity.pollStopped());
+	}
+
+	private static FishingActivity fishingAt(NPC spot)
+	{
+		FishingActivity activity = new FishingActivity();
+		activity.interactingChanged(spot);
+		activity.animationChanged(NET_FISHING);
+		assertFalse(activity.pollStopped());
+		return activity;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class IntIntMapTest
+{
+	@Test
+	public void putGetRemove()
+	{
+		IntIntMap map = new IntIntMap(4);
+		map.put(7, 70);
+		map.put(-3, 30);
+		map.put(Integer.MIN_VALUE, 0);
+
+		assertEquals(70, map.get(7));
+		assertEquals(30, map.get(-3));
+		assertEquals(0, map.get(Integer.MIN_VALUE));
+		assertEquals(IntIntMap.NO_VALUE, map.get(8));
+
+		map.put(7, 71);
+		assertEquals(71, map.get(7));
+		assertEquals(3, map.size());
+
+		assertEquals(71, map.remove(7));
+		assertEquals(IntIntMap.NO_VALUE, map.remove(7));
+		assertEquals(IntIntMap.NO_VALUE, map.get(7));
+		assertEquals(2, map.size());
+	}
+
+	@Test
+	public void removeKeepsCollidingKeysReachable()
+	{
+		// A small table and a dense key range force long probe runs that wrap past the end
+		for (long seed = 0; seed < 200; seed++)
+		{
+			checkAgainstHashMap(new IntIntMap(4), new Random(seed), 16, 400);
+		}
+	}
+
+	@Test
+	public void removeAcrossResizes()
+	{
+		IntIntMap map = new IntIntMap(4);
+		for (int key = 0; key < 1000; key++)
+		{
+			map.put(key * 31, key);
+		}
+		for (int key = 0; key < 1000; key += 2)
+		{
+			assertEquals(key, map.remove(key * 31));
+		}
+
+		assertEquals(500, map.size());
+		for (int key = 0; key < 1000; key++)
+		{
+			assertEquals(key % 2 == 0 ? IntIntMap.NO_VALUE : key, map.get(key * 31));
+		}
+
+		checkAgainstHashMap(map, new Random(1), 4000, 20000);
+	}
+
+	private static void checkAgainstHashMap(IntIntMap map, Random random, int keyRange, int operations)
+	{
+		Map<Integer, Integer> expected = new HashMap<>();
+		for (int key = 0; key < keyRange * 31; key += 31)
+		{
+			int value = map.get(key);
+			if (value != IntIntMap.NO_VALUE)
+			{
+				expected.put(key, value);
+			}
+		}
+
+		for (int op = 0; op < operations; op++)
+		{
+			int key = random.nextInt(keyRange) * 31;
+			if (random.nextInt(3) == 0)
+			{
+				Integer removed = expected.remove(key);
+				assertEquals(removed != null ? removed : IntIntMap.NO_VALUE, map.remove(key));
+			}
+			else
+			{
+				int value = random.nextInt(1000);
+				expected.put(key, value);
+				map.put(key, value);
+			}
+
+			assertEquals(expected.size(), map.size());
+		}
+
+		for (int key = 0; key < keyRange * 31; key += 31)
+		{
+			Integer value = expected.get(key);
+			assertEquals(value != null ? value : IntIntMap.NO_VALUE, map.get(key));
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class LocationCacheTest
+{
+	private static final int NPC_ID = 1518;
+
+	@Test
+	public void removeReturnsSpawnTickOnce()
+	{
+		LocationCache cache = new LocationCache(4);
+		int tile = WorldTiles.pack(3000, 3000, 0);
+		cache.put(tile, NPC_ID, 100, 150);
+
+		assertEquals(LocationCache.NO_SPAWN_TICK, cache.remove(tile, NPC_ID + 1));
+		assertEquals(100, cache.remove(tile, NPC_ID));
+		assertEquals(LocationCache.NO_SPAWN_TICK, cache.remove(tile, NPC_ID));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void negativeSpawnTicksAreHits()
+	{
+		LocationCache cache = new LocationCache(4);
+		int tile = WorldTiles.pack(3000, 3000, 0);
+		cache.put(tile, NPC_ID, -1, 10);
+		cache.put(tile, NPC_ID + 1, -500, 10);
+
+		assertEquals(-1, cache.remove(tile, NPC_ID));
+		assertEquals(-500, cache.remove(tile, NPC_ID + 1));
+	}
+
+	@Test
+	public void removeMatchesHashMapAcrossResizes()
+	{
+		Random random = new Random(3);
+		LocationCache cache = new LocationCache(4);
+		Map<Long, Integer> expected = new HashMap<>();
+		for (int op = 0; op < 50_000; op++)
+		{
+			// Few distinct tiles and IDs, so probe runs collide and wrap
+			int tile = WorldTiles.pack(3000 + random.nextInt(40), 3000, 0);
+			int npcId = NPC_ID + random.nextInt(4);
+			long key = (long) tile << 32 | npcId;
+			if (random.nextInt(3) == 0)
+			{
+				Integer spawnTick = expected.remove(key);
+				assertEquals(spawnTick != null ? spawnTick : LocationCache.NO_SPAWN_TICK, cache.remove(tile, npcId));
+			}
+			else
+			{
+				int spawnTick = random.nextInt(2000) - 1000;
+				expected.put(key, spawnTick);
+				cache.put(tile, npcId, spawnTick, op);
+			}
+			assertEquals(expected.size(), cache.size());
+		}
+
+		Map<Long, Integer> actual = new HashMap<>();
+		cache.forEach((tile, npcId, spawnTick, despawnTick) -> actual.put((long) tile << 32 | npcId, spawnTick));
+		assertEquals(expected, actual);
+	}
+
+	@Test
+	public void expireDropsOnlyEntriesDespawnedBeforeCutoff()
+	{
+		LocationCache cache = new LocationCache(4);
+		for (int i = 0; i < 100; i++)
+		{
+			cache.put(WorldTiles.pack(3000 + i, 3000, 0), NPC_ID, i, i);
+		}
+
+		cache.expire(40);
+		assertEquals(60, cache.size());
+		assertEquals(LocationCache.NO_SPAWN_TICK, cache.remove(WorldTiles.pack(3039, 3000, 0), NPC_ID));
+		assertEquals(40, cache.remove(WorldTiles.pack(3040, 3000, 0), NPC_ID));
+	}
+
+	@Test
+	public void expireKeepsEntriesRefreshedSinceTheirFirstDespawn()
+	{
+		LocationCache cache = new LocationCache(4);
+		int tile = WorldTiles.pack(3000, 3000, 0);
+		cache.put(tile, NPC_ID, 5, 10);
+		cache.remove(tile, NPC_ID);
+		cache.put(tile, NPC_ID, 5, 50);
+
+		// The ring still holds the stale despawn at tick 10, which must not evict the newer entry
+		cache.expire(20);
+		assertEquals(1, cache.size());
+		assertEquals(5, cache.remove(tile, NPC_ID));
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import static com.fishingspottracker.BenchmarkStubs.spotNpc;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import net.runelite.api.NPC;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class NewestSpotIndexTest
+{
+	@Test
+	public void newestFollowsUpdatesAndRemovals()
+	{
+		NewestSpotIndex index = new NewestSpotIndex();
+		NPC a = spotNpc(1);
+		NPC b = spotNpc(2);
+		NPC c = spotNpc(3);
+		index.put(a, 10);
+		index.put(b, 30);
+		index.put(c, 20);
+		assertSame(b, index.newest(null));
+
+		// Resetting a spot's timer to later moves it up; an earlier tick moves it down
+		index.put(a, 40);
+		assertSame(a, index.newest(null));
+		index.put(a, 5);
+		assertSame(b, index.newest(null));
+
+		index.remove(b);
+		assertSame(c, index.newest(null));
+		index.remove(c);
+		index.remove(a);
+		assertNull(index.newest(null));
+		assertEquals(0, index.size());
+	}
+
+	@Test
+	public void newestIsStickyBetweenTiedSpots()
+	{
+		NewestSpotIndex index = new NewestSpotIndex();
+		NPC a = spotNpc(1);
+		NPC b = spotNpc(2);
+		index.put(a, 10);
+		index.put(b, 10);
+
+		NPC newest = index.newest(null);
+		NPC other = newest == a ? b : a;
+		assertSame(other, index.newest(other));
+		assertSame(newest, index.newest(newest));
+
+		index.put(other, 11);
+		assertSame(other, index.newest(newest));
+	}
+
+	@Test
+	public void heapOrderHoldsUnderRandomUpdates()
+	{
+		// Small heaps make it likely that the entry moved into a removed slot belongs above it
+		for (long seed = 0; seed < 50; seed++)
+		{
+			checkAgainstMap(new Random(seed), 12, 2000);
+		}
+		checkAgainstMap(new Random(11), 200, 20_000);
+	}
+
+	/**
+	 * Applies random puts and removes, checking the newest spot after each, then drains the
+	 * index newest first so any misplaced entry deeper in the heap surfaces.
+	 */
+	private static void checkAgainstMap(Random random, int spots, int operations)
+	{
+		NewestSpotIndex index = new NewestSpotIndex();
+		List<NPC> npcs = new ArrayList<>();
+		for (int i = 0; i < spots; i++)
+		{
+			npcs.add(spotNpc(i));
+		}
+
+		Map<NPC, Integer> expected = new HashMap<>();
+		for (int op = 0; op < operations; op++)
+		{
+			NPC npc = npcs.get(random.nextInt(npcs.size()));
+			if (random.nextInt(4) == 0)
+			{
+				index.remove(npc);
+				expected.remove(npc);
+			}
+			else
+			{
+				int spawnTick = random.nextInt(1000);
+				index.put(npc, spawnTick);
+				expected.put(npc, spawnTick);
+			}
+			assertNewest(expected, index);
+		}
+
+		while (!expected.isEmpty())
+		{
+			NPC newest = index.newest(null);
+			index.remove(newest);
+			expected.remove(newest);
+			assertNewest(expected, index);
+		}
+	}
+
+	private static void assertNewest(Map<NPC, Integer> expected, NewestSpotIndex index)
+	{
+		assertEquals(expected.size(), index.size());
+		NPC newest = index.newest(null);
+		if (expected.isEmpty())
+		{
+			assertNull(newest);
+			return;
+		}
+
+		int max = expected.values().stream().mapToInt(Integer::intValue).max().getAsInt();
+		assertEquals(max, (int) expected.get(newest));
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class P2QuantileTest
+{
+	private static final int SAMPLES = 20_000;
+
+	/**
+	 * Allowed error relative to the exact quantile.
+	 */
+	private static final double TOLERANCE = 0.02;
+
+	@Test
+	public void tracksExactQuantilesOfUniformSamples()
+	{
+		Random random = new Random(1);
+		checkAgainstExact(random::nextDouble, 0.5);
+		checkAgainstExact(random::nextDouble, 0.95);
+	}
+
+	@Test
+	public void tracksExactQuantilesOfSkewedSamples()
+	{
+		// Exponential with a mean of 300, the scale of spot lifetimes in ticks
+		Random random = new Random(2);
+		DoubleSupplier exponential = () -> -300 * Math.log(1 - random.nextDouble());
+		checkAgainstExact(exponential, 0.5);
+		checkAgainstExact(exponential, 0.95);
+	}
+
+	@Test
+	public void tracksExactQuantilesOfSortedInput()
+	{
+		P2Quantile median = new P2Quantile(0.5);
+		for (int i = 0; i < SAMPLES; i++)
+		{
+			median.add(i);
+		}
+		assertEquals(SAMPLES / 2.0, median.estimate(), SAMPLES / 2.0 * TOLERANCE);
+	}
+
+	@Test
+	public void isExactBeforeFiveObservations()
+	{
+		P2Quantile median = new P2Quantile(0.5);
+		assertTrue(Double.isNaN(median.estimate()));
+		median.add(30);
+		median.add(10);
+		median.add(20);
+		assertEquals(20, median.estimate(), 0);
+		assertEquals(3, median.count());
+	}
+
+	@Test
+	public void survivesWriteAndRead() throws IOException
+	{
+		Random random = new Random(3);
+		P2Quantile original = new P2Quantile(0.95);
+		for (int i = 0; i < 1000; i++)
+		{
+			original.add(random.nextGaussian());
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		original.write(new DataOutputStream(bytes));
+		P2Quantile restored = new P2Quantile(0.95);
+		restored.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		// Both continue identically from the restored markers
+		for (int i = 0; i < 1000; i++)
+		{
+			double x = random.nextGaussian();
+			original.add(x);
+			restored.add(x);
+		}
+		assertEquals(original.count(), restored.count());
+		assertEquals(original.estimate(), restored.estimate(), 0);
+	}
+
+	/**
+	 * Feeds the same samples to the estimator and to a sorted array, and checks the estimate
+	 * is within {@link #TOLERANCE} of the exact quantile.
+	 */
+	private static void checkAgainstExact(DoubleSupplier distribution, double p)
+	{
+		P2Quantile estimator = new P2Quantile(p);
+		double[] samples = new double[SAMPLES];
+		for (int i = 0; i < SAMPLES; i++)
+		{
+			samples[i] = distribution.getAsDouble();
+			estimator.add(samples[i]);
+		}
+
+		Arrays.sort(samples);
+		double exact = samples[(int) Math.round(p * (SAMPLES - 1))];
+		assertEquals("p" + p, exact, estimator.estimate(), exact * TOLERANCE);
+	}
+}
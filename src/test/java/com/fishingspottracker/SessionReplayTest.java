@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import com.fishingspottracker.BenchmarkStubs.StubNpc;
+import com.fishingspottracker.BenchmarkStubs.StubWorld;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.InteractingChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SessionReplayTest
+{
+	private static final int NET_FISHING = 621;
+	// Keeps every record of the session in the ring at once, so none are dropped between drains
+	private static final int TICKS = 300;
+	private static final int MAX_SPOTS = 8;
+
+	private File dir;
+	private ScheduledExecutorService executor;
+
+	@Before
+	public void before() throws IOException
+	{
+		dir = Files.createTempDirectory("session-replay").toFile();
+		executor = Executors.newSingleThreadScheduledExecutor();
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdownNow();
+		for (File f : dir.listFiles())
+		{
+			f.delete();
+		}
+		dir.delete();
+	}
+
+	@Test
+	public void replayMatchesRecordedSession() throws Exception
+	{
+		StubWorld world = new StubWorld();
+		world.gameState = GameState.LOGIN_SCREEN;
+		world.tickCount = 100;
+		Map<String, Object> overrides = new HashMap<>(SessionReplay.CONFIG);
+		overrides.put("recordSessions", true);
+		FishingSpotTrackerPlugin plugin = BenchmarkStubs.plugin(world, BenchmarkStubs.config(overrides));
+		SessionRecorder recorder = new SessionRecorder(dir);
+		BenchmarkStubs.inject(plugin, "recorder", recorder);
+		BenchmarkStubs.inject(plugin, "executor", executor);
+
+		plugin.gameStateChanged(GameState.LOGIN_SCREEN);
+		plugin.updateRecording();
+		world.gameState = GameState.LOGGED_IN;
+		GameStateChanged loggedIn = new GameStateChanged();
+		loggedIn.setGameState(GameState.LOGGED_IN);
+		plugin.onGameStateChanged(loggedIn);
+
+		Random random = new Random(1);
+		FishingSpotData[] types = FishingSpotData.values();
+		List<StubNpc> spots = new ArrayList<>();
+		int nextIndex = 0;
+		long digest = 1;
+		for (int tick = 101; tick <= 100 + TICKS; tick++)
+		{
+			world.tickCount = tick;
+			if (spots.size() < MAX_SPOTS && random.nextInt(10) == 0)
+			{
+				int npcId = types[random.nextInt(types.length)].getNpcIds()[0];
+				StubNpc spot = new StubNpc(nextIndex++, npcId, randomTile(random));
+				spots.add(spot);
+				world.npcs.add(spot.npc);
+				plugin.onNpcSpawned(new NpcSpawned(spot.npc));
+			}
+			for (StubNpc spot : spots)
+			{
+				if (random.nextInt(100) == 0)
+				{
+					spot.moveTo(randomTile(random));
+				}
+			}
+			if (!spots.isEmpty() && random.nextInt(40) == 0)
+			{
+				StubNpc spot = spots.remove(random.nextInt(spots.size()));
+				world.npcs.remove(spot.npc);
+				plugin.onNpcDespawned(new NpcDespawned(spot.npc));
+			}
+
+			// Fish for 50 ticks at a time, at the oldest spot
+			int animation = (tick / 50) % 2 == 0 ? NET_FISHING : -1;
+			if (animation != world.playerAnimation)
+			{
+				world.playerAnimation = animation;
+				AnimationChanged event = new AnimationChanged();
+				event.setActor(world.client.getLocalPlayer());
+				plugin.onAnimationChanged(event);
+			}
+			NPC interacting = animation == -1 || spots.isEmpty() ? null : spots.get(0).npc;
+			if (interacting != world.playerInteracting)
+			{
+				world.playerInteracting = interacting;
+				plugin.onInteractingChanged(new InteractingChanged(world.client.getLocalPlayer(), interacting));
+			}
+			if (tick % 3 == 0)
+			{
+				world.playerLocation = BenchmarkStubs.toLocal(randomTile(random));
+			}
+
+			plugin.onGameTick(new GameTick());
+			digest = digest * 31 + SessionReplay.digest(plugin.getRenderModel());
+		}
+
+		recorder.stop();
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+		File[] captures = dir.listFiles();
+		assertEquals(1, captures.length);
+		SessionReplay.Result result = SessionReplay.replay(SessionReplay.Capture.read(captures[0]),
+			BenchmarkStubs.config(SessionReplay.CONFIG));
+		assertEquals(TICKS, result.ticks);
+		assertEquals(digest, result.digest);
+	}
+
+	private static WorldPoint randomTile(Random random)
+	{
+		return new WorldPoint(3020 + random.nextInt(20), 3000 + random.nextInt(10), 0);
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import static com.fishingspottracker.BenchmarkStubs.spotNpc;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import net.runelite.api.NPC;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class SpotSpatialIndexTest
+{
+	private static final int PLANE = 0;
+
+	@Test
+	public void firstSpotOnATileIsPrimary()
+	{
+		SpotSpatialIndex index = new SpotSpatialIndex();
+		NPC first = spotNpc(1);
+		NPC second = spotNpc(2);
+		int tile = WorldTiles.pack(3000, 3000, PLANE);
+		index.put(first, tile);
+		index.put(second, tile);
+
+		assertTrue(index.isPrimary(first));
+		assertFalse(index.isPrimary(second));
+
+		index.remove(first);
+		assertTrue(index.isPrimary(second));
+		assertFalse(index.isPrimary(first));
+
+		// Moving back onto the tile queues behind the spot already there
+		index.put(first, tile);
+		assertTrue(index.isPrimary(second));
+		index.put(second, WorldTiles.pack(3001, 3000, PLANE));
+		assertTrue(index.isPrimary(first));
+		assertTrue(index.isPrimary(second));
+		assertEquals(2, index.size());
+	}
+
+	@Test
+	public void queriesMatchBruteForce()
+	{
+		Random random = new Random(7);
+		SpotSpatialIndex index = new SpotSpatialIndex();
+		List<NPC> npcs = new ArrayList<>();
+		List<Integer> tiles = new ArrayList<>();
+		for (int i = 0; i < 300; i++)
+		{
+			NPC npc = spotNpc(i);
+			int tile = WorldTiles.pack(3000 + random.nextInt(60), 3000 + random.nextInt(60), PLANE);
+			index.put(npc, tile);
+			npcs.add(npc);
+			tiles.add(tile);
+		}
+
+		// Move and remove some, so queries run over relinked and reused slots
+		for (int i = 0; i < 100; i++)
+		{
+			int n = random.nextInt(npcs.size());
+			if (random.nextBoolean())
+			{
+				int tile = WorldTiles.pack(3000 + random.nextInt(60), 3000 + random.nextInt(60), PLANE);
+				index.put(npcs.get(n), tile);
+				tiles.set(n, tile);
+			}
+			else
+			{
+				index.remove(npcs.remove(n));
+				tiles.remove(n);
+			}
+		}
+
+		for (int query = 0; query < 200; query++)
+		{
+			int origin = WorldTiles.pack(2990 + random.nextInt(80), 2990 + random.nextInt(80), PLANE);
+			int radius = random.nextInt(20);
+
+			NPC[] inRange = new NPC[npcs.size()];
+			int count = index.inRange(origin, radius, inRange);
+			assertEquals(expectedDistances(npcs, tiles, index, origin, radius, npc -> true, npcs.size()).length, count);
+			for (int i = 0; i < count; i++)
+			{
+				assertTrue(index.isPrimary(inRange[i]));
+				assertTrue(WorldTiles.distance(origin, tiles.get(npcs.indexOf(inRange[i]))) <= radius);
+			}
+
+			NPC[] nearest = new NPC[1 + random.nextInt(5)];
+			Predicate<NPC> filter = npc -> npc.getIndex() % 3 != 0;
+			int found = index.nearest(origin, radius, filter, nearest);
+			int[] expected = expectedDistances(npcs, tiles, index, origin, radius, filter, nearest.length);
+			int[] actual = new int[found];
+			for (int i = 0; i < found; i++)
+			{
+				assertTrue(nearest[i].getIndex() % 3 != 0);
+				actual[i] = WorldTiles.distance(origin, tiles.get(npcs.indexOf(nearest[i])));
+			}
+			assertArrayEquals(expected, actual);
+		}
+	}
+
+	@Test
+	public void ignoresOtherPlanes()
+	{
+		SpotSpatialIndex index = new SpotSpatialIndex();
+		NPC upstairs = spotNpc(1);
+		index.put(upstairs, WorldTiles.pack(3000, 3000, 1));
+
+		NPC[] out = new NPC[4];
+		assertEquals(0, index.inRange(WorldTiles.pack(3000, 3000, 0), 5, out));
+		assertEquals(0, index.nearest(WorldTiles.pack(3000, 3000, 0), 5, npc -> true, out));
+		assertEquals(1, index.nearest(WorldTiles.pack(3002, 3000, 1), 5, npc -> true, out));
+		assertSame(upstairs, out[0]);
+	}
+
+	/**
+	 * The {@code limit} smallest distances to primary spots within range that pass the filter.
+	 */
+	private static int[] expectedDistances(List<NPC> npcs, List<Integer> tiles, SpotSpatialIndex index,
+		int origin, int radius, Predicate<NPC> filter, int limit)
+	{
+		int[] distances = new int[npcs.size()];
+		int n = 0;
+		for (int i = 0; i < npcs.size(); i++)
+		{
+			NPC npc = npcs.get(i);
+			int distance = WorldTiles.distance(origin, tiles.get(i));
+			if (index.isPrimary(npc) && distance <= radius && filter.test(npc))
+			{
+				distances[n++] = distance;
+			}
+		}
+		int[] sorted = Arrays.copyOf(distances, n);
+		Arrays.sort(sorted);
+		return Arrays.copyOf(sorted, Math.min(n, limit));
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import net.runelite.api.Constants;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SpotTimerStoreTest
+{
+	private static final int WORLD = 301;
+	private static final long NOW = 1_700_000_000_000L;
+
+	private final int npcId = FishingSpotData.values()[0].getNpcIds()[0];
+	private File dir;
+	private File file;
+
+	@Before
+	public void before() throws IOException
+	{
+		dir = Files.createTempDirectory("spot-timers").toFile();
+		file = new File(dir, "timers.bin");
+	}
+
+	@After
+	public void after()
+	{
+		for (File f : dir.listFiles())
+		{
+			f.delete();
+		}
+		dir.delete();
+	}
+
+	@Test
+	public void savedTimersLoadInANewStore()
+	{
+		save(3);
+
+		SpotTimerSnapshot loaded = new SpotTimerStore(file).load();
+		assertEquals(3, loaded.size());
+		for (int i = 0; i < 3; i++)
+		{
+			assertEquals(NOW - i, loaded.spawnMillis(WORLD, tile(i), npcId));
+		}
+		assertEquals(SpotTimerSnapshot.NO_TIME, loaded.spawnMillis(WORLD + 1, tile(0), npcId));
+	}
+
+	@Test
+	public void smallerSaveOverwritesLargerOne()
+	{
+		save(5);
+		SpotTimerStore store = new SpotTimerStore(file);
+		SpotTimerSnapshot.Builder observed = new SpotTimerSnapshot.Builder();
+		observed.add(WORLD, tile(0), npcId, NOW);
+
+		// By then every spot from the first save but the re-observed one has outlived its type
+		store.save(observed, NOW + (long) FishingSpotData.values()[0].getMaxTicks() * Constants.GAME_TICK_LENGTH);
+
+		SpotTimerSnapshot loaded = new SpotTimerStore(file).load();
+		assertEquals(1, loaded.size());
+		assertEquals(NOW, loaded.spawnMillis(WORLD, tile(0), npcId));
+	}
+
+	@Test
+	public void corruptEntryIsRejected() throws IOException
+	{
+		save(3);
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.seek(raf.length() - 1);
+			int last = raf.read();
+			raf.seek(raf.length() - 1);
+			raf.write(last ^ 1);
+		}
+
+		assertSame(SpotTimerSnapshot.EMPTY, new SpotTimerStore(file).load());
+	}
+
+	@Test
+	public void truncatedFileIsRejected() throws IOException
+	{
+		save(3);
+		byte[] bytes = Files.readAllBytes(file.toPath());
+
+		// Cut into the entries, then into the header
+		Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - 8));
+		assertSame(SpotTimerSnapshot.EMPTY, new SpotTimerStore(file).load());
+
+		Files.write(file.toPath(), Arrays.copyOf(bytes, 10));
+		assertSame(SpotTimerSnapshot.EMPTY, new SpotTimerStore(file).load());
+	}
+
+	@Test
+	public void unknownHeaderIsRejected() throws IOException
+	{
+		save(1);
+		byte[] bytes = Files.readAllBytes(file.toPath());
+
+		byte[] badMagic = bytes.clone();
+		badMagic[0] ^= 1;
+		Files.write(file.toPath(), badMagic);
+		assertSame(SpotTimerSnapshot.EMPTY, new SpotTimerStore(file).load());
+
+		byte[] badVersion = bytes.clone();
+		badVersion[7] ^= 1;
+		Files.write(file.toPath(), badVersion);
+		assertSame(SpotTimerSnapshot.EMPTY, new SpotTimerStore(file).load());
+	}
+
+	@Test
+	public void missingFileLoadsEmpty()
+	{
+		assertSame(SpotTimerSnapshot.EMPTY, new SpotTimerStore(file).load());
+	}
+
+	private void save(int spots)
+	{
+		SpotTimerSnapshot.Builder observed = new SpotTimerSnapshot.Builder();
+		for (int i = 0; i < spots; i++)
+		{
+			observed.add(WORLD, tile(i), npcId, NOW - i);
+		}
+		new SpotTimerStore(file).save(observed, NOW);
+	}
+
+	private static int tile(int i)
+	{
+		return WorldTiles.pack(3000 + i, 3000, 0);
+	}
+}
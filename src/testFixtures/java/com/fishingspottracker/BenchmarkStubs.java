@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import net.runelite.api.Perspective;
+import net.runelite.api.Player;
+import net.runelite.api.Point;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Lightweight stand-ins for the RuneLite API so the plugin can be driven without a live client.
+ * Only the handful of methods the plugin actually calls are implemented; everything else
+ * returns a zero value.
+ */
+final class BenchmarkStubs
+{
+	static final int VIEWPORT_WIDTH = 1000;
+	static final int VIEWPORT_HEIGHT = 800;
+
+	// Boxed once so stub answers never allocate
+	private static final Integer BOXED_VIEWPORT_WIDTH = VIEWPORT_WIDTH;
+	private static final Integer BOXED_VIEWPORT_HEIGHT = VIEWPORT_HEIGHT;
+	private static final Long ZERO_LONG = 0L;
+	private static final Double ZERO_DOUBLE = 0.0;
+	private static final Float ZERO_FLOAT = 0.0f;
+
+	private BenchmarkStubs()
+	{
+	}
+
+	/**
+	 * Mutable game state backing a stub {@link Client}. The scene base is (0, 0) on plane 0,
+	 * so local points map straight onto world tiles.
+	 */
+	static final class StubWorld
+	{
+		int tickCount;
+		int world = 301;
+		GameState gameState = GameState.LOGGED_IN;
+		int plane;
+		int playerAnimation = -1;
+		NPC playerInteracting;
+		LocalPoint playerLocation = toLocal(new WorldPoint(3030, 3000, 0));
+		final List<NPC> npcs = new ArrayList<>();
+
+		// Boxed once per change so answering getTickCount and getWorld allocates nothing
+		private Integer boxedTickCount;
+		private Integer boxedWorld;
+
+		final Player player = proxy(Player.class, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "getAnimation":
+					return playerAnimation;
+				case "getInteracting":
+					return playerInteracting;
+				case "getLocalLocation":
+					return playerLocation;
+				default:
+					return objectMethod(proxy, method, args);
+			}
+		});
+
+		final WorldView worldView = proxy(WorldView.class, (proxy, method, args) ->
+			"getPlane".equals(method.getName()) ? plane : objectMethod(proxy, method, args));
+
+		final Client client = proxy(Client.class, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "getTickCount":
+					return boxedTickCount();
+				case "getWorld":
+					return boxedWorld();
+				case "getGameState":
+					return gameState;
+				case "getNpcs":
+					return npcs;
+				case "getLocalPlayer":
+					return player;
+				case "getTopLevelWorldView":
+					return worldView;
+				case "getViewportWidth":
+					return BOXED_VIEWPORT_WIDTH;
+				case "getViewportHeight":
+					return BOXED_VIEWPORT_HEIGHT;
+				default:
+					return objectMethod(proxy, method, args);
+			}
+		});
+
+		private Integer boxedTickCount()
+		{
+			if (boxedTickCount == null || boxedTickCount != tickCount)
+			{
+				boxedTickCount = tickCount;
+			}
+			return boxedTickCount;
+		}
+
+		private Integer boxedWorld()
+		{
+			if (boxedWorld == null || boxedWorld != world)
+			{
+				boxedWorld = world;
+			}
+			return boxedWorld;
+		}
+	}
+
+	/**
+	 * A fishing spot NPC whose ID and tile can be changed between ticks.
+	 */
+	static final class StubNpc
+	{
+		/**
+		 * Largest argument count of any NPC method the plugin calls.
+		 */
+		static final int MAX_ARGUMENTS = 3;
+
+		/**
+		 * Calls made through any stub NPC, by argument count. The proxy allocates one argument
+		 * array per call with arguments and nothing otherwise, so callers can subtract exactly
+		 * what the stubs allocated from a measurement.
+		 */
+		static final long[] callsByArgumentCount = new long[MAX_ARGUMENTS + 1];
+
+		final int index;
+		int id;
+		private final Integer boxedIndex;
+		private Integer boxedId;
+		WorldPoint worldLocation;
+		LocalPoint localLocation;
+		Point canvasLocation;
+		Point minimapLocation;
+
+		final NPC npc;
+
+		StubNpc(int index, int id, WorldPoint worldLocation)
+		{
+			this.index = index;
+			this.id = id;
+			this.boxedIndex = index;
+			moveTo(worldLocation);
+			this.canvasLocation = new Point(400 + index % 40 * 10, 300 + index / 40 * 10);
+			this.minimapLocation = new Point(600 + index % 40, 80 + index / 40);
+			this.npc = proxy(NPC.class, (proxy, method, args) ->
+			{
+				callsByArgumentCount[args != null ? args.length : 0]++;
+				switch (method.getName())
+				{
+					case "getId":
+						return boxedId();
+					case "getIndex":
+						return boxedIndex;
+					case "getWorldLocation":
+						return this.worldLocation;
+					case "getLocalLocation":
+						return this.localLocation;
+					case "getCanvasTextLocation":
+					case "getCanvasImageLocation":
+						return this.canvasLocation;
+					case "getMinimapLocation":
+						return this.minimapLocation;
+					default:
+						return objectMethod(proxy, method, args);
+				}
+			});
+		}
+
+		/**
+		 * The ID, boxed once per change so answering {@code getId} allocates nothing.
+		 */
+		private Integer boxedId()
+		{
+			if (boxedId == null || boxedId != id)
+			{
+				boxedId = id;
+			}
+			return boxedId;
+		}
+
+		/**
+		 * Moves the NPC to a world tile, or takes it out of the scene for null.
+		 */
+		void moveTo(WorldPoint worldLocation)
+		{
+			this.worldLocation = worldLocation;
+			this.localLocation = worldLocation != null ? toLocal(worldLocation) : null;
+		}
+	}
+
+	/**
+	 * A fishing spot NPC of the first spot type, on a fixed tile, for tests that only need
+	 * distinct NPCs.
+	 */
+	static NPC spotNpc(int index)
+	{
+		return new StubNpc(index, FishingSpotData.values()[0].getNpcIds()[0], new WorldPoint(3000, 3000, 0)).npc;
+	}
+
+	/**
+	 * Local point at the center of a world tile, for the stub scene based at (0, 0).
+	 */
+	static LocalPoint toLocal(WorldPoint wp)
+	{
+		int half = Perspective.LOCAL_TILE_SIZE / 2;
+		return new LocalPoint(wp.getX() * Perspective.LOCAL_TILE_SIZE + half,
+			wp.getY() * Perspective.LOCAL_TILE_SIZE + half, -1);
+	}
+
+	/**
+	 * Creates a config proxy that answers every item with its declared default.
+	 */
+	static FishingSpotTrackerConfig defaultConfig()
+	{
+		return config(Collections.emptyMap());
+	}
+
+	/**
+	 * Creates a config proxy with the given items (keyed by method name) overridden.
+	 */
+	static FishingSpotTrackerConfig config(Map<String, Object> overrides)
+	{
+		return proxy(FishingSpotTrackerConfig.class, (proxy, method, args) ->
+		{
+			if (overrides.containsKey(method.getName()))
+			{
+				return overrides.get(method.getName());
+			}
+			if (method.isDefault())
+			{
+				return MethodHandles.privateLookupIn(FishingSpotTrackerConfig.class, MethodHandles.lookup())
+					.unreflectSpecial(method, FishingSpotTrackerConfig.class)
+					.bindTo(proxy)
+					.invokeWithArguments(args == null ? new Object[0] : args);
+			}
+			return objectMethod(proxy, method, args);
+		});
+	}
+
+	/**
+	 * Creates a plugin wired to the given stub world, as Guice would for the fields the
+	 * tick engine uses.
+	 */
+	static FishingSpotTrackerPlugin plugin(StubWorld world, FishingSpotTrackerConfig config)
+	{
+		FishingSpotTrackerPlugin plugin = new FishingSpotTrackerPlugin();
+		inject(plugin, "client", world.client);
+		inject(plugin, "config", config);
+		RenderSettings settings = RenderSettings.from(config);
+		inject(plugin, "renderSettings", settings);
+		inject(plugin, "newestSpotTracking", settings.showNewestBadge);
+		return plugin;
+	}
+
+	static void inject(Object target, String fieldName, Object value)
+	{
+		try
+		{
+			Field field = target.getClass().getDeclaredField(fieldName);
+			field.setAccessible(true);
+			field.set(target, value);
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new IllegalStateException("Unable to inject " + fieldName, e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, InvocationHandler handler)
+	{
+		return (T) Proxy.newProxyInstance(BenchmarkStubs.class.getClassLoader(), new Class<?>[]{type}, handler);
+	}
+
+	private static Object objectMethod(Object proxy, Method method, Object[] args)
+	{
+		switch (method.getName())
+		{
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			case "toString":
+				return method.getDeclaringClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+			default:
+				return zeroValue(method.getReturnType());
+		}
+	}
+
+	private static Object zeroValue(Class<?> type)
+	{
+		if (!type.isPrimitive() || type == void.class)
+		{
+			return null;
+		}
+		if (type == boolean.class)
+		{
+			return false;
+		}
+		if (type == long.class)
+		{
+			return ZERO_LONG;
+		}
+		if (type == double.class)
+		{
+			return ZERO_DOUBLE;
+		}
+		if (type == float.class)
+		{
+			return ZERO_FLOAT;
+		}
+		if (type == char.class)
+		{
+			return '\0';
+		}
+		if (type == byte.class)
+		{
+			return (byte) 0;
+		}
+		if (type == short.class)
+		{
+			return (short) 0;
+		}
+		return 0;
+	}
+}
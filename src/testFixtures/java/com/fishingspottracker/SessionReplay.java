@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026, SpockNinja
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.fishingspottracker;
+
+import com.fishingspottracker.BenchmarkStubs.StubNpc;
+import com.fishingspottracker.BenchmarkStubs.StubWorld;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import net.runelite.api.Constants;
+import net.runelite.api.GameState;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.RuneLite;
+
+/**
+ * Replays {@link SessionRecorder} captures through the tracker engine as fast as it will go.
+ *
+ * Each capture is loaded into memory, then fed to a fresh plugin wired to the benchmark
+ * stubs, with every per-spot display feature turned on. Prints the replay speed and a digest
+ * of every tick's render model, so two builds can be checked for identical behaviour on a
+ * real session and profiled without starting the game.
+ *
+ * Run with {@code ./gradlew replay}, which replays every capture in the RuneLite folder, or
+ * pass {@code -Preplay.files=<capture>[,<capture>...]}. Set {@code -Preplay.repeat=<n>} to
+ * replay each capture n times, reporting the last run once the JIT has warmed up.
+ */
+public class SessionReplay
+{
+	private static final File CAPTURE_DIR = new File(RuneLite.RUNELITE_DIR, "fishing-spot-tracker/captures");
+
+	/**
+	 * Config overrides captures are replayed with: every per-spot display feature on,
+	 * notifications off.
+	 */
+	static final Map<String, Object> CONFIG = Map.of(
+		"showSpotName", true,
+		"showStaticSpots", true,
+		"highlightNearestFresh", true,
+		"showMoveChance", true,
+		"idleNotification", false);
+
+	public static void main(String[] args) throws IOException
+	{
+		int repeat = Integer.getInteger("replay.repeat", 1);
+		List<File> files = new ArrayList<>();
+		for (String arg : args)
+		{
+			files.add(new File(arg));
+		}
+
+		if (files.isEmpty())
+		{
+			File[] captures = CAPTURE_DIR.listFiles((dir, name) -> name.endsWith(".bin"));
+			if (captures != null)
+			{
+				Arrays.sort(captures);
+				files.addAll(Arrays.asList(captures));
+			}
+		}
+
+		if (files.isEmpty())
+		{
+			System.out.println("No captures found in " + CAPTURE_DIR
+				+ "; turn on Record Sessions in the plugin config to make some");
+			return;
+		}
+
+		FishingSpotTrackerConfig config = BenchmarkStubs.config(CONFIG);
+		for (File file : files)
+		{
+			Capture capture = Capture.read(file);
+			Result result = null;
+			for (int i = 0; i < repeat; i++)
+			{
+				result = replay(capture, config);
+			}
+
+			double seconds = result.nanos / 1e9;
+			double played = result.ticks * (double) Constants.GAME_TICK_LENGTH / 1000;
+			System.out.printf("%s: %d records, %d ticks (%.0f s of play) in %.3f s, %.0f ticks/s (%.0fx real time), digest %016x%n",
+				file.getName(), capture.size, result.ticks, played, seconds, result.ticks / seconds,
+				played / seconds, result.digest);
+		}
+	}
+
+	static Result replay(Capture capture, FishingSpotTrackerConfig config)
+	{
+		StubWorld world = new StubWorld();
+		world.gameState = GameState.LOGIN_SCREEN;
+		FishingSpotTrackerPlugin engine = BenchmarkStubs.plugin(world, config);
+		Map<Integer, StubNpc> npcs = new HashMap<>();
+
+		// Start logged out, so the capture's first LOGGED_IN begins a session
+		engine.gameStateChanged(GameState.LOGIN_SCREEN);
+
+		Result result = new Result();
+		long start = System.nanoTime();
+		for (int i = 0; i < capture.size; i++)
+		{
+			int a = capture.as[i];
+			int b = capture.bs[i];
+			int c = capture.cs[i];
+			world.tickCount = capture.ticks[i];
+
+			switch (capture.types[i])
+			{
+				case SessionRecorder.GAME_STATE:
+				{
+					world.gameState = GameState.of(a);
+					world.world = b;
+					if (world.gameState == GameState.LOGIN_SCREEN || world.gameState == GameState.HOPPING)
+					{
+						npcs.clear();
+						world.npcs.clear();
+					}
+					engine.gameStateChanged(world.gameState);
+					break;
+				}
+				case SessionRecorder.SPAWN:
+				{
+					StubNpc npc = npcs.get(a);
+					if (npc == null)
+					{
+						npc = new StubNpc(a, b, null);
+						npcs.put(a, npc);
+						world.npcs.add(npc.npc);
+					}
+					npc.id = b;
+					npc.moveTo(toWorldPoint(c));
+					engine.npcSpawned(npc.npc);
+					break;
+				}
+				case SessionRecorder.POSITION:
+				{
+					StubNpc npc = npcs.get(a);
+					if (npc != null)
+					{
+						npc.id = b;
+						npc.moveTo(toWorldPoint(c));
+					}
+					break;
+				}
+				case SessionRecorder.DESPAWN:
+				{
+					StubNpc npc = npcs.remove(a);
+					if (npc != null)
+					{
+						world.npcs.remove(npc.npc);
+						engine.npcDespawned(npc.npc);
+					}
+					break;
+				}
+				case SessionRecorder.TICK:
+				{
+					world.playerLocation = a != WorldTiles.NO_TILE ? BenchmarkStubs.toLocal(WorldTiles.toWorldPoint(a)) : null;
+					world.plane = a != WorldTiles.NO_TILE ? WorldTiles.plane(a) : 0;
+					engine.gameTick();
+					result.ticks++;
+					result.digest = result.digest * 31 + digest(engine.getRenderModel());
+					break;
+				}
+				case SessionRecorder.ANIMATION:
+					world.playerAnimation = a;
+					engine.playerAnimationChanged(a);
+					break;
+				case SessionRecorder.INTERACTING:
+				{
+					StubNpc interacting = a >= 0 ? npcs.get(a) : null;
+					world.playerInteracting = interacting != null ? interacting.npc : null;
+					engine.playerInteractingChanged(world.playerInteracting);
+					break;
+				}
+				default:
+					throw new IllegalStateException("Unknown record type " + capture.types[i] + " at record " + i);
+			}
+		}
+		result.nanos = System.nanoTime() - start;
+		return result;
+	}
+
+	private static WorldPoint toWorldPoint(int tile)
+	{
+		return tile != WorldTiles.NO_TILE ? WorldTiles.toWorldPoint(tile) : null;
+	}
+
+	/**
+	 * Hashes everything the overlays would draw for one tick, using only values whose hash
+	 * is the same from run to run.
+	 */
+	static long digest(List<SpotRenderInfo> model)
+	{
+		long hash = model.size();
+		for (SpotRenderInfo spot : model)
+		{
+			hash = hash * 31 + Objects.hash(spot.npc.getIndex(), spot.spotData.name(), spot.tile, spot.progress,
+				spot.active, spot.newest, spot.nearestFresh, spot.inScene, spot.duplicate, spot.timerText, spot.nameText,
+				spot.moveChanceText, spot.iconFish != null ? spot.iconFish.getName() : null);
+		}
+		return hash;
+	}
+
+	static final class Result
+	{
+		long ticks;
+		long nanos;
+		/**
+		 * Every tick's {@link SessionReplay#digest(List)}, chained in order.
+		 */
+		long digest = 1;
+	}
+
+	/**
+	 * A capture file's records, unpacked into parallel arrays.
+	 */
+	static final class Capture
+	{
+		final int size;
+		final int[] ticks;
+		final int[] as;
+		final int[] bs;
+		final int[] cs;
+		final byte[] types;
+
+		private Capture(int size)
+		{
+			this.size = size;
+			ticks = new int[size];
+			as = new int[size];
+			bs = new int[size];
+			cs = new int[size];
+			types = new byte[size];
+		}
+
+		static Capture read(File file) throws IOException
+		{
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath()))))
+			{
+				if (in.readInt() != SessionRecorder.MAGIC || in.readInt() != SessionRecorder.VERSION
+					|| in.readInt() != SessionRecorder.RECORD_BYTES)
+				{
+					throw new IOException(file + " is not a version " + SessionRecorder.VERSION + " session capture");
+				}
+
+				// A capture cut off mid-record (e.g. the client was killed) ends at the last full one
+				Capture capture = new Capture((int) ((file.length() - SessionRecorder.HEADER_BYTES) / SessionRecorder.RECORD_BYTES));
+				for (int i = 0; i < capture.size; i++)
+				{
+					capture.ticks[i] = in.readInt();
+					capture.as[i] = in.readInt();
+					capture.bs[i] = in.readInt();
+					capture.cs[i] = in.readInt();
+					capture.types[i] = in.readByte();
+					in.skipBytes(3);
+				}
+				return capture;
+			}
+		}
+	}
+}